@@ -0,0 +1,173 @@
+package com.example.board.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.board.BoardApplication;
+import com.example.board.entity.Comment;
+import com.example.board.search.BoardSearchIndex;
+
+// 벤치마크 공통 상태: 내장 H2(MySQL 호환 모드)로 애플리케이션을 띄우고 데이터를 채움
+// - 게시글 boards개 (Flyway 더미 50개 포함), 제목/본문의 10%에 "spring" 포함
+// - 앞쪽 HOT_BOARDS개 게시글에 댓글 comments개씩, 좋아요 likes개씩
+// - 사용자 USERS명 (비밀번호는 모두 PASSWORD)
+// JMH fork(JVM)마다 한 번 만들어지고, 모든 벤치마크 스레드가 같이 쓴다.
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+	static final int HOT_BOARDS = 100;
+	static final int USERS = 1000;
+	static final String PASSWORD = "password";
+	static final String KEYWORD = "spring";
+
+	private static final int BATCH = 1000;
+
+	// -p boards=10000,100000,1000000
+	@Param("10000")
+	public int boards;
+
+	@Param("200")
+	public int comments;
+
+	@Param("100")
+	public int likes;
+
+	private Path workDir;
+	private ConfigurableApplicationContext context;
+
+	@Setup(Level.Trial)
+	public void start() throws IOException {
+		workDir = Files.createTempDirectory("board-jmh");
+		// 기본 속성(properties)은 application.properties보다 우선순위가 낮으므로 명령행 인자로 덮어씀
+		context = new SpringApplicationBuilder(BoardApplication.class).run(
+				"--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.show-sql=false",
+				"--spring.jpa.open-in-view=false",
+				"--spring.devtools.restart.enabled=false",
+				"--spring.main.banner-mode=off",
+				// SQL 로그가 켜져 있으면 측정값 대부분이 로그 출력 시간이 됨
+				"--logging.level.root=WARN",
+				"--logging.level.org.hibernate.SQL=WARN",
+				"--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+				"--server.port=0",
+				"--board.auth.token-secret=benchmark",
+				"--board.search.index-path=" + workDir.resolve("search-index"),
+				"--board.storage.local.root=" + workDir.resolve("upload"),
+				"--board.upload.staging-dir=" + workDir.resolve("staging"));
+		try {
+			seed();
+		} catch (RuntimeException e) {
+			// 실패해도 스케줄러 등 애플리케이션 스레드가 fork를 붙잡지 않도록
+			context.close();
+			throw e;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() throws IOException {
+		context.close();
+		try (Stream<Path> files = Files.walk(workDir)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> {
+				try {
+					Files.delete(path);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+
+	public <T> T bean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	public long randomBoardId() {
+		return ThreadLocalRandom.current().nextLong(1, boards + 1);
+	}
+
+	public long randomHotBoardId() {
+		return ThreadLocalRandom.current().nextLong(1, HOT_BOARDS + 1);
+	}
+
+	public long randomUserId() {
+		return ThreadLocalRandom.current().nextLong(1, USERS + 1);
+	}
+
+	private void seed() {
+		JdbcTemplate jdbc = bean(JdbcTemplate.class);
+		long start = System.currentTimeMillis();
+
+		// 게시글: 1~50은 Flyway V2 더미 데이터 (DATABASE_TO_LOWER라 SYSTEM_RANGE의 X 컬럼은 따옴표로)
+		jdbc.update("INSERT INTO board (id, title, content, writer, created_date, view_count, like_count, comment_count) "
+				+ "SELECT N, CONCAT('게시글 ', N, CASE WHEN MOD(N, 10) = 0 THEN ' spring' ELSE ' jpa' END), "
+				+ "CONCAT('본문 ', N, ' ', REPEAT('내용 ', 50), CASE WHEN MOD(N, 10) = 0 THEN 'spring' ELSE '' END), "
+				+ "CONCAT('작성자', MOD(N, 500)), DATEADD('SECOND', N, TIMESTAMP '2024-01-01 00:00:00'), MOD(N, 100), 0, 0 "
+				+ "FROM (SELECT \"X\" AS N FROM SYSTEM_RANGE(51, ?)) R", boards);
+
+		String hash = bean(PasswordEncoder.class).encode(PASSWORD);
+		batch(jdbc, "INSERT INTO users (id, username, password, name, email, create_date) VALUES (?, ?, ?, ?, ?, ?)",
+				USERS, i -> new Object[] { i, "user" + i, hash, "사용자" + i, "user" + i + "@example.com", now() });
+
+		// 댓글: 게시글마다 최상위 댓글 (path는 Comment와 같은 (작성 시각, id) 구간)
+		int totalComments = HOT_BOARDS * comments;
+		LocalDateTime commentDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+		batch(jdbc, "INSERT INTO comment (id, board_id, path, writer, content, created_date, reply_count, deleted) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, 0, FALSE)",
+				totalComments, i -> new Object[] { i, (i - 1) % HOT_BOARDS + 1, Comment.segment(commentDate, i),
+						"사용자" + (i % USERS + 1), "댓글 " + i, Timestamp.valueOf(commentDate) });
+		jdbc.update("UPDATE board SET comment_count = ? WHERE id <= ?", comments, HOT_BOARDS);
+
+		batch(jdbc, "INSERT INTO board_like (user_id, board_id, created_date) VALUES (?, ?, ?)",
+				HOT_BOARDS * likes, i -> new Object[] { (i - 1) / HOT_BOARDS + 1, (i - 1) % HOT_BOARDS + 1, now() });
+		jdbc.update("UPDATE board SET like_count = ? WHERE id <= ?", likes, HOT_BOARDS);
+
+		// 직접 넣은 id 다음부터 나눠 주도록
+		jdbc.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = 'board'", Math.max(boards, 50));
+		jdbc.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = 'users'", USERS);
+		jdbc.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = 'comment'", totalComments);
+
+		bean(BoardSearchIndex.class).rebuild();
+		System.out.printf("# 데이터 준비: 게시글 %d, 댓글 %d, 좋아요 %d, 사용자 %d (%dms)%n",
+				boards, totalComments, HOT_BOARDS * likes, USERS, System.currentTimeMillis() - start);
+	}
+
+	private static void batch(JdbcTemplate jdbc, String sql, int count, IntFunction<Object[]> row) {
+		List<Object[]> rows = new ArrayList<>(BATCH);
+		for (int i = 1; i <= count; i++) {
+			rows.add(row.apply(i));
+			if (rows.size() == BATCH || i == count) {
+				jdbc.batchUpdate(sql, rows);
+				rows.clear();
+			}
+		}
+	}
+
+	private static Timestamp now() {
+		return Timestamp.valueOf(LocalDateTime.now());
+	}
+}
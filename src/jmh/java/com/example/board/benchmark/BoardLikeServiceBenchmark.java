@@ -0,0 +1,45 @@
+package com.example.board.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.board.service.BoardLikeService;
+
+// 좋아요 토글 (INSERT IGNORE / DELETE + 좋아요 수 갱신) / 좋아요 수 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardLikeServiceBenchmark {
+
+	private BoardLikeService boardLikeService;
+
+	@Setup(Level.Trial)
+	public void setUp(BenchmarkContext context) {
+		boardLikeService = context.bean(BoardLikeService.class);
+	}
+
+	// 좋아요가 몰린 게시글에 임의의 사용자가 토글
+	@Benchmark
+	public boolean toggleLike(BenchmarkContext context) {
+		return boardLikeService.toggleLike(context.randomHotBoardId(), context.randomUserId());
+	}
+
+	@Benchmark
+	public long countLikes(BenchmarkContext context) {
+		return boardLikeService.countLikes(context.randomBoardId());
+	}
+}
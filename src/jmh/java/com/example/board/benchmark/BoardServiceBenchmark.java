@@ -0,0 +1,86 @@
+package com.example.board.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.example.board.dto.BoardCursor;
+import com.example.board.dto.BoardSummary;
+import com.example.board.dto.CursorPage;
+import com.example.board.entity.Board;
+import com.example.board.service.BoardService;
+
+// 게시글 목록 / 검색 / 상세
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardServiceBenchmark {
+	private static final int PAGE_SIZE = 10;
+	private static final Sort LIST_SORT = Sort.by(Sort.Direction.DESC, "id");
+
+	private BoardService boardService;
+	private int pages;
+
+	@Setup(Level.Trial)
+	public void setUp(BenchmarkContext context) {
+		boardService = context.bean(BoardService.class);
+		pages = context.boards / PAGE_SIZE;
+	}
+
+	// 첫 페이지 (목록 캐시 적중)
+	@Benchmark
+	public Page<BoardSummary> findAllFirstPage() {
+		return boardService.findAll(PageRequest.of(0, PAGE_SIZE, LIST_SORT));
+	}
+
+	// 캐시되지 않는 임의의 페이지 (OFFSET + COUNT(*))
+	@Benchmark
+	public Page<BoardSummary> findAllRandomPage() {
+		return boardService.findAll(randomPage());
+	}
+
+	// 같은 위치를 커서(keyset)로
+	@Benchmark
+	public CursorPage<BoardSummary> findAllRandomCursor(BenchmarkContext context) {
+		return boardService.findAll(BoardCursor.olderThan(context.randomBoardId()).encode(), PAGE_SIZE);
+	}
+
+	// 검색 인덱스 (전체의 10%가 일치)
+	@Benchmark
+	public Page<BoardSummary> searchFirstPage() {
+		return boardService.search("titleOrContent", BenchmarkContext.KEYWORD, PageRequest.of(0, PAGE_SIZE, LIST_SORT));
+	}
+
+	@Benchmark
+	public CursorPage<BoardSummary> searchCursor() {
+		return boardService.search("titleOrContent", BenchmarkContext.KEYWORD, null, PAGE_SIZE);
+	}
+
+	// 상세 (게시글 엔티티 + 조회수 증가)
+	@Benchmark
+	public Board findById(BenchmarkContext context) {
+		return boardService.findById(context.randomBoardId());
+	}
+
+	private Pageable randomPage() {
+		return PageRequest.of(ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE, LIST_SORT);
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.board.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.board.dto.CommentView;
+import com.example.board.dto.CursorPage;
+import com.example.board.entity.Comment;
+import com.example.board.service.CommentService;
+
+// 게시글의 댓글 페이지 (예전 findByBoardId 대신 path 순서 keyset 페이징)와 답글 묶음 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommentServiceBenchmark {
+	private static final int PAGE_SIZE = 50;
+	private static final int REPLY_PAGE_SIZE = 100;
+
+	private CommentService commentService;
+
+	@Setup(Level.Trial)
+	public void setUp(BenchmarkContext context) {
+		commentService = context.bean(CommentService.class);
+	}
+
+	@Benchmark
+	public CursorPage<CommentView> firstPage(BenchmarkContext context) {
+		return commentService.findPage(context.randomHotBoardId(), null, PAGE_SIZE);
+	}
+
+	// 답글 묶음 전체를 100개씩 끝까지 읽음 (읽은 답글 수 반환)
+	@Benchmark
+	public int deepThread(CommentThreads threads) {
+		return readReplies(threads.deepRootId);
+	}
+
+	@Benchmark
+	public int wideThread(CommentThreads threads) {
+		return readReplies(threads.wideRootId);
+	}
+
+	// 첫 페이지 + 다음 페이지 (커서 이어 읽기)
+	@Benchmark
+	public CursorPage<CommentView> firstTwoPages(BenchmarkContext context) {
+		long boardId = context.randomHotBoardId();
+		CursorPage<CommentView> first = commentService.findPage(boardId, null, PAGE_SIZE);
+		return commentService.findPage(boardId, first.getNextCursor(), PAGE_SIZE);
+	}
+
+	private int readReplies(Long commentId) {
+		int read = 0;
+		String cursor = null;
+		do {
+			CursorPage<CommentView> page = commentService.findReplies(commentId, cursor, REPLY_PAGE_SIZE);
+			read += page.getContent().size();
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		return read;
+	}
+
+	// 답글 replies개짜리 스레드 두 개 (HOT_BOARDS 다음 게시글에 작성)
+	// - 깊은 스레드: 최대 깊이(Comment.MAX_DEPTH)까지 한 줄로 답글을 단 뒤, 나머지는 가장 깊은 답글에 계속 답글
+	//   (최대 깊이를 넘는 답글은 형제로 붙으므로 path가 가장 긴 답글들이 한 층에 모임)
+	// - 넓은 스레드: 댓글 하나에 직접 단 답글 replies개 (path가 가장 짧음)
+	@State(Scope.Benchmark)
+	public static class CommentThreads {
+		@Param("2000")
+		public int replies;
+
+		private Long deepRootId;
+		private Long wideRootId;
+
+		@Setup(Level.Trial)
+		public void setUp(BenchmarkContext context) {
+			CommentService commentService = context.bean(CommentService.class);
+			long boardId = BenchmarkContext.HOT_BOARDS + 1;
+
+			Comment comment = commentService.save(boardId, null, "작성자", "깊은 스레드");
+			deepRootId = comment.getId();
+			for (int i = 1; i <= replies; i++) {
+				comment = commentService.save(boardId, comment.getId(), "작성자", "답글 " + i);
+			}
+
+			wideRootId = commentService.save(boardId, null, "작성자", "넓은 스레드").getId();
+			for (int i = 1; i <= replies; i++) {
+				commentService.save(boardId, wideRootId, "작성자", "답글 " + i);
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.board.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.board.entity.BoardFile;
+import com.example.board.repository.BoardRepository;
+import com.example.board.service.FileService;
+
+// 첨부파일 저장 (내용 해시 계산 + 로컬 저장소 쓰기 + BoardFile 배치 INSERT)
+// 같은 내용은 한 번만 저장되므로 서로 다른 내용의 파일을 미리 만들어 두고 돌아가며 사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileServiceBenchmark {
+	private static final int FILES_PER_POST = 3;
+	private static final int DISTINCT_FILES = 3000;
+
+	@Param("65536")
+	public int fileSize;
+
+	private FileService fileService;
+	private BoardRepository boardRepository;
+	private final List<MultipartFile> files = new ArrayList<>();
+	private final AtomicInteger next = new AtomicInteger();
+
+	@Setup(Level.Trial)
+	public void setUp(BenchmarkContext context) {
+		fileService = context.bean(FileService.class);
+		boardRepository = context.bean(BoardRepository.class);
+		Random random = new Random(42);
+		for (int i = 0; i < DISTINCT_FILES; i++) {
+			byte[] content = new byte[fileSize];
+			random.nextBytes(content);
+			files.add(new MockMultipartFile("uploadFiles", "file" + i + ".bin", "application/octet-stream", content));
+		}
+	}
+
+	@Benchmark
+	public List<BoardFile> saveFiles(BenchmarkContext context) throws IOException {
+		List<MultipartFile> upload = new ArrayList<>(FILES_PER_POST);
+		for (int i = 0; i < FILES_PER_POST; i++) {
+			upload.add(files.get(Math.floorMod(next.getAndIncrement(), DISTINCT_FILES)));
+		}
+		return fileService.saveFiles(upload, boardRepository.getReferenceById(context.randomBoardId()));
+	}
+}
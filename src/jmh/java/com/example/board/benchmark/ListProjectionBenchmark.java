@@ -0,0 +1,87 @@
+package com.example.board.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.board.dto.BoardSummary;
+import com.example.board.entity.Board;
+import com.example.board.repository.BoardRepository;
+
+// 목록 조회: Board 엔티티(content 포함, 영속성 컨텍스트에 등록) vs BoardSummary projection(5개 컬럼)
+// 같은 쿼리 모양을 짝지어 측정하고, 요청당 힙 사용량은 -prof gc의 gc.alloc.rate.norm(B/op)으로 비교
+//   mvn -P jmh test-compile exec:exec -Djmh.include=ListProjectionBenchmark -Djmh.boards=10000,1000000
+// (게시글 100만 개는 H2 메모리 DB만 1GB 가까이 쓰므로 힙이 충분한 환경에서)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListProjectionBenchmark {
+	private static final int PAGE_SIZE = 10;
+	private static final Sort LIST_SORT = Sort.by(Sort.Direction.DESC, "id");
+
+	private BoardRepository boardRepository;
+	private TransactionTemplate readOnly;
+	private int pages;
+
+	@Setup(Level.Trial)
+	public void setUp(BenchmarkContext context) {
+		boardRepository = context.bean(BoardRepository.class);
+		readOnly = new TransactionTemplate(context.bean(PlatformTransactionManager.class));
+		readOnly.setReadOnly(true);
+		pages = context.boards / PAGE_SIZE;
+	}
+
+	// 임의의 페이지 (OFFSET + COUNT(*))
+	@Benchmark
+	public Page<Board> offsetPageEntity() {
+		Pageable pageable = randomPage();
+		return readOnly.execute(status -> boardRepository.findAllBy(pageable, Board.class));
+	}
+
+	@Benchmark
+	public Page<BoardSummary> offsetPageSummary() {
+		Pageable pageable = randomPage();
+		return readOnly.execute(status -> boardRepository.findAllBy(pageable, BoardSummary.class));
+	}
+
+	// 같은 위치를 keyset으로 (다음 페이지 확인용 1건 포함)
+	@Benchmark
+	public List<Board> keysetPageEntity(BenchmarkContext context) {
+		long id = context.randomBoardId();
+		return readOnly.execute(status ->
+				boardRepository.findByIdLessThanOrderByIdDesc(id, Limit.of(PAGE_SIZE + 1), Board.class));
+	}
+
+	@Benchmark
+	public List<BoardSummary> keysetPageSummary(BenchmarkContext context) {
+		long id = context.randomBoardId();
+		return readOnly.execute(status ->
+				boardRepository.findByIdLessThanOrderByIdDesc(id, Limit.of(PAGE_SIZE + 1), BoardSummary.class));
+	}
+
+	private Pageable randomPage() {
+		return PageRequest.of(ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE, LIST_SORT);
+	}
+}
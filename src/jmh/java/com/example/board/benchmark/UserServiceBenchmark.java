@@ -0,0 +1,51 @@
+package com.example.board.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.board.entity.User;
+import com.example.board.service.UserService;
+
+// 로그인 (사용자 조회 + 비밀번호 해시 비교, 해시는 전용 스레드 풀에서 계산하고 끝날 때까지 기다림)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+	private UserService userService;
+
+	@Setup(Level.Trial)
+	public void setUp(BenchmarkContext context) {
+		userService = context.bean(UserService.class);
+	}
+
+	@Benchmark
+	public User login(BenchmarkContext context) {
+		return userService.login("user" + context.randomUserId(), BenchmarkContext.PASSWORD).join();
+	}
+
+	@Benchmark
+	public User loginWrongPassword(BenchmarkContext context) {
+		return userService.login("user" + context.randomUserId(), "wrong").join();
+	}
+
+	// 없는 사용자는 해시 비교 없이 바로 실패
+	@Benchmark
+	public User loginUnknownUser() {
+		return userService.login("nobody", BenchmarkContext.PASSWORD).join();
+	}
+}
@@ -0,0 +1,268 @@
+package com.example.board.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.board.entity.User;
+import com.example.board.importer.BoardImportService;
+import com.example.board.loadtest.LatencyRecorder.EndpointStats;
+import com.example.board.repository.BoardFileRepository;
+import com.example.board.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 실제 MVC 엔드포인트(BoardController, CommentController, UserController, FileController) 부하 테스트
+//   mvn -P load-test test
+//   mvn -P load-test test -Dloadtest.users=50 -Dloadtest.duration=5m
+// 임베디드 H2(test 프로필)로 애플리케이션을 띄우고 게시글/사용자/첨부파일을 채운 뒤,
+// 가상 사용자마다 /user/login으로 로그인한 세션에서 목록/검색/상세/좋아요/댓글/업로드/다운로드를 섞어서 반복한다.
+// 엔드포인트별 p50/p95/p99와 처리량을 출력하고 loadtest.report에 JSON으로 남긴 뒤, loadtest.slo.* 기준을 넘으면 실패한다.
+// MySQL로 돌리려면 -Dspring.datasource.url=... -Dspring.datasource.driver-class-name=... 등으로 덮어쓴다.
+@Slf4j
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({ "test", "loadtest" })
+class BoardLoadTest {
+	private static final String PASSWORD = "password";
+	private static final List<String> KEYWORDS = List.of("spring", "jpa", "redis", "lucene", "mysql", "cache", "index", "thread");
+
+	// 요청 비율 (합계 100)
+	private static final Map<String, Integer> MIX = new LinkedHashMap<>();
+	static {
+		MIX.put("list", 30);
+		MIX.put("detail", 30);
+		MIX.put("search", 15);
+		MIX.put("like", 7);
+		MIX.put("comment", 7);
+		MIX.put("download", 6);
+		MIX.put("upload", 3);
+		MIX.put("login", 2);
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Value("${loadtest.users}")
+	private int users;
+	@Value("${loadtest.boards}")
+	private int boards;
+	@Value("${loadtest.files}")
+	private int files;
+	@Value("${loadtest.warmup}")
+	private Duration warmup;
+	@Value("${loadtest.duration}")
+	private Duration duration;
+	@Value("${loadtest.think-time}")
+	private Duration thinkTime;
+	@Value("${loadtest.report}")
+	private Path report;
+
+	@Autowired
+	private BoardImportService boardImportService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private BoardFileRepository boardFileRepository;
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
+	private Environment environment;
+
+	private final LatencyRecorder recorder = new LatencyRecorder();
+	private final byte[] attachment = randomBytes(64 * 1024);
+	private List<Long> boardIds;
+	private List<Long> fileIds;
+	private volatile boolean running = true;
+
+	@Test
+	void endpointsMeetLatencySlo() throws Exception {
+		seed();
+
+		List<VirtualUser> virtualUsers = new ArrayList<>();
+		for (int i = 1; i <= users; i++) {
+			VirtualUser user = new VirtualUser("http://localhost:" + port, "load" + i, PASSWORD, recorder);
+			assertThat(user.login()).as("load%d 로그인", i).isTrue();
+			virtualUsers.add(user);
+		}
+		uploadAttachments(virtualUsers.get(0));
+
+		ExecutorService pool = Executors.newFixedThreadPool(users);
+		virtualUsers.forEach(user -> pool.submit(() -> run(user)));
+
+		Thread.sleep(warmup.toMillis());
+		recorder.start();
+		Thread.sleep(duration.toMillis());
+		recorder.stop();
+		running = false;
+		pool.shutdown();
+		assertThat(pool.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+		List<EndpointStats> stats = recorder.stats();
+		List<String> violations = checkSlo(stats);
+		log.info("부하 테스트 결과 (가상 사용자 {}명, {}초)\n{}", users, recorder.elapsed().toSeconds(), table(stats));
+		writeReport(stats, violations);
+
+		assertThat(stats).extracting(EndpointStats::endpoint).containsAll(MIX.keySet());
+		assertThat(violations).as("SLO 위반").isEmpty();
+	}
+
+	// 가상 사용자 한 명의 반복: 비율에 따라 요청을 고르고 think-time만큼 쉰다.
+	private void run(VirtualUser user) {
+		while (running) {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			long boardId = boardIds.get(random.nextInt(boardIds.size()));
+			switch (pick(random.nextInt(100))) {
+				case "list" -> user.get("list", "/board/list?page=" + (random.nextInt(10) < 8 ? 0 : random.nextInt(50)));
+				case "detail" -> user.get("detail", "/board/detail/" + boardId);
+				case "search" -> user.get("search", "/board/list?searchType=titleOrContent&keyword="
+						+ KEYWORDS.get(random.nextInt(KEYWORDS.size())));
+				case "like" -> user.post("like", "/board/" + boardId + "/like", Map.of());
+				case "comment" -> user.post("comment", "/comment/write",
+						Map.of("boardId", String.valueOf(boardId), "content", "부하 테스트 댓글"));
+				case "download" -> user.get("download", "/board/file/download/" + fileIds.get(random.nextInt(fileIds.size())));
+				case "upload" -> user.upload("upload", "/board/write", Map.of("title", "부하 테스트 업로드", "content", "첨부파일"),
+						"uploadFiles", "attachment.bin", attachment);
+				default -> user.login();
+			}
+			if (!thinkTime.isZero()) {
+				try {
+					Thread.sleep(thinkTime.toMillis());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private static String pick(int roll) {
+		int sum = 0;
+		for (Map.Entry<String, Integer> entry : MIX.entrySet()) {
+			sum += entry.getValue();
+			if (roll < sum) {
+				return entry.getKey();
+			}
+		}
+		return "list";
+	}
+
+	// 게시글은 가져오기(JSON Lines)로, 사용자는 같은 비밀번호 해시로 한 번에 저장
+	private void seed() throws Exception {
+		Random random = new Random(42);
+		String lines = IntStream.rangeClosed(1, boards)
+				.mapToObj(i -> objectMapper.createObjectNode()
+						.put("title", "부하 테스트 " + i + " " + KEYWORDS.get(random.nextInt(KEYWORDS.size())))
+						.put("content", "본문 " + i + " " + KEYWORDS.get(random.nextInt(KEYWORDS.size())) + " "
+								+ KEYWORDS.get(random.nextInt(KEYWORDS.size())))
+						.put("writer", "작성자" + i % 100)
+						.toString())
+				.collect(Collectors.joining("\n"));
+		boardImportService.importJsonLines(new BufferedReader(new StringReader(lines)));
+		boardIds = jdbcTemplate.queryForList("SELECT id FROM board", Long.class);
+
+		String hash = passwordEncoder.encode(PASSWORD);
+		List<User> accounts = new ArrayList<>();
+		for (int i = 1; i <= users; i++) {
+			User user = new User();
+			user.setUsername("load" + i);
+			user.setPassword(hash);
+			user.setName("부하" + i);
+			user.setEmail("load" + i + "@example.com");
+			accounts.add(user);
+		}
+		userRepository.saveAll(accounts);
+	}
+
+	// 다운로드할 첨부파일 (업로드는 백그라운드에서 저장되므로 다 저장될 때까지 기다림)
+	private void uploadAttachments(VirtualUser user) {
+		for (int i = 0; i < files; i++) {
+			assertThat(user.upload("upload", "/board/write", Map.of("title", "첨부파일 " + i, "content", "다운로드용"),
+					"uploadFiles", "seed" + i + ".bin", randomBytes(64 * 1024))).isTrue();
+		}
+		await().atMost(Duration.ofMinutes(1)).until(() -> boardFileRepository.count() >= files);
+		fileIds = jdbcTemplate.queryForList("SELECT id FROM board_file", Long.class);
+	}
+
+	// loadtest.slo.<엔드포인트>.p95-ms / p99-ms, loadtest.slo.error-rate (없으면 확인하지 않음)
+	private List<String> checkSlo(List<EndpointStats> stats) {
+		double maxErrorRate = environment.getProperty("loadtest.slo.error-rate", Double.class, 0.0);
+		List<String> violations = new ArrayList<>();
+		for (EndpointStats endpoint : stats) {
+			Double p95 = environment.getProperty("loadtest.slo." + endpoint.endpoint() + ".p95-ms", Double.class);
+			Double p99 = environment.getProperty("loadtest.slo." + endpoint.endpoint() + ".p99-ms", Double.class);
+			if (p95 != null && endpoint.p95() > p95) {
+				violations.add(String.format(Locale.ROOT, "%s p95 %.1fms > %.1fms", endpoint.endpoint(), endpoint.p95(), p95));
+			}
+			if (p99 != null && endpoint.p99() > p99) {
+				violations.add(String.format(Locale.ROOT, "%s p99 %.1fms > %.1fms", endpoint.endpoint(), endpoint.p99(), p99));
+			}
+			if (endpoint.errorRate() > maxErrorRate) {
+				violations.add(String.format(Locale.ROOT, "%s 오류율 %.2f%% > %.2f%%", endpoint.endpoint(),
+						endpoint.errorRate() * 100, maxErrorRate * 100));
+			}
+		}
+		return violations;
+	}
+
+	private static String table(List<EndpointStats> stats) {
+		StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-10s %8s %7s %9s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+		for (EndpointStats endpoint : stats) {
+			table.append(String.format(Locale.ROOT, "%-10s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", endpoint.endpoint(),
+					endpoint.requests(), endpoint.errors(), endpoint.throughput(), endpoint.p50(), endpoint.p95(),
+					endpoint.p99(), endpoint.max()));
+		}
+		return table.toString();
+	}
+
+	// 릴리스별로 보관해서 비교할 수 있도록 JSON으로 저장
+	private void writeReport(List<EndpointStats> stats, List<String> violations) throws Exception {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("users", users);
+		result.put("boards", boards);
+		result.put("seconds", recorder.elapsed().toMillis() / 1000.0);
+		result.put("endpoints", stats);
+		result.put("violations", violations);
+		Files.createDirectories(report.toAbsolutePath().getParent());
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), result);
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		ThreadLocalRandom.current().nextBytes(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.board.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 엔드포인트별 응답 시간 기록
+// 워밍업 동안은 기록하지 않고, start() 이후 요청만 모아서 백분위수를 계산한다.
+class LatencyRecorder {
+
+	private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+	private volatile boolean recording;
+	private long startNanos;
+	private long stopNanos;
+
+	void start() {
+		startNanos = System.nanoTime();
+		recording = true;
+	}
+
+	void stop() {
+		recording = false;
+		stopNanos = System.nanoTime();
+	}
+
+	void record(String endpoint, long nanos, boolean success) {
+		if (recording) {
+			endpoints.computeIfAbsent(endpoint, name -> new Samples()).add(nanos, success);
+		}
+	}
+
+	Duration elapsed() {
+		return Duration.ofNanos(stopNanos - startNanos);
+	}
+
+	// 엔드포인트 이름순
+	List<EndpointStats> stats() {
+		double seconds = Math.max(elapsed().toNanos(), 1) / 1e9;
+		List<EndpointStats> stats = new ArrayList<>();
+		endpoints.entrySet().stream()
+				.sorted(Map.Entry.comparingByKey())
+				.forEach(entry -> stats.add(entry.getValue().stats(entry.getKey(), seconds)));
+		return stats;
+	}
+
+	private static class Samples {
+		private long[] nanos = new long[1024];
+		private int count;
+		private int errors;
+
+		synchronized void add(long value, boolean success) {
+			if (count == nanos.length) {
+				nanos = Arrays.copyOf(nanos, count * 2);
+			}
+			nanos[count++] = value;
+			if (!success) {
+				errors++;
+			}
+		}
+
+		synchronized EndpointStats stats(String name, double seconds) {
+			long[] sorted = Arrays.copyOf(nanos, count);
+			Arrays.sort(sorted);
+			return new EndpointStats(name, count, errors, count / seconds,
+					millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+					millis(percentile(sorted, 99)), millis(count == 0 ? 0 : sorted[count - 1]));
+		}
+
+		// nearest-rank 방식
+		private static long percentile(long[] sorted, int percent) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+			return sorted[Math.max(rank, 1) - 1];
+		}
+
+		private static double millis(long nanos) {
+			return nanos / 1_000_000.0;
+		}
+	}
+
+	record EndpointStats(String endpoint, int requests, int errors, double throughput,
+			double p50, double p95, double p99, double max) {
+
+		double errorRate() {
+			return requests == 0 ? 0 : (double) errors / requests;
+		}
+	}
+}
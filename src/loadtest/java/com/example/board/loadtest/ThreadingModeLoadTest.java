@@ -0,0 +1,216 @@
+package com.example.board.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.board.BoardApplication;
+import com.example.board.importer.BoardImportService;
+import com.example.board.loadtest.LatencyRecorder.EndpointStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 플랫폼 스레드(Tomcat 스레드 풀) 모드와 가상 스레드 모드(virtual-threads 프로필)의 최대 처리량 비교
+//   JAVA_HOME=<JDK 21> mvn -P java21,load-test test -Dtest=ThreadingModeLoadTest
+// 모드마다 애플리케이션을 따로 띄우고, /board/list와 /board/detail/{id}에 초당 요청 수를 단계별로 올려 가며
+// (응답을 기다리지 않고 일정한 간격으로 보냄) 오류율/p99/처리량 기준을 지킨 마지막 단계를 최대 처리량으로 본다.
+// 임베디드 H2는 I/O 대기가 거의 없어 차이가 작게 나오므로, 비교는 -Dspring.datasource.url=...로 실제 DB에 붙여서 한다.
+// Java 17에서는 가상 스레드 모드를 건너뛴다.
+@Slf4j
+class ThreadingModeLoadTest {
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+	private static final Path REPORT = Path.of("./target/threading-mode-report.json");
+
+	// application-loadtest.properties (-Dloadtest.capacity.xxx=...로 덮어씀)
+	private int boards;
+	private int startRps;
+	private int maxRps;
+	private double stepFactor;
+	private Duration stepDuration;
+	private double p99LimitMs;
+	private double maxErrorRate;
+	private Duration warmup;
+
+	private final HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.followRedirects(HttpClient.Redirect.NEVER)
+			.connectTimeout(TIMEOUT)
+			.build();
+
+	@Test
+	void compareMaxSustainableThroughput() throws Exception {
+		Map<String, Map<String, Capacity>> results = new LinkedHashMap<>();
+		results.put("platform", measure("platform"));
+		if (Runtime.version().feature() >= 21) {
+			results.put("virtual", measure("virtual", "virtual-threads"));
+		} else {
+			log.warn("Java {}에서는 가상 스레드 모드를 건너뜀 (-P java21로 JDK 21에서 실행)", Runtime.version().feature());
+		}
+
+		StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-9s %-8s %10s %9s%n", "mode", "endpoint", "max req/s", "p99(ms)"));
+		results.forEach((mode, endpoints) -> endpoints.forEach((endpoint, capacity) -> table.append(String.format(Locale.ROOT,
+				"%-9s %-8s %10d %9.1f%n", mode, endpoint, capacity.rps(), capacity.p99()))));
+		log.info("모드별 최대 처리량 (p99 <= {}ms, 오류율 <= {}%)\n{}", p99LimitMs, maxErrorRate * 100, table);
+
+		Files.createDirectories(REPORT.toAbsolutePath().getParent());
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), results);
+
+		assertThat(results.get("platform")).containsOnlyKeys("list", "detail");
+	}
+
+	private Map<String, Capacity> measure(String mode, String... extraProfiles) throws Exception {
+		List<String> profiles = new ArrayList<>(List.of("test", "loadtest"));
+		profiles.addAll(List.of(extraProfiles));
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardApplication.class)
+				.profiles(profiles.toArray(String[]::new))
+				.run("--server.port=0",
+						"--spring.datasource.url=" + System.getProperty("spring.datasource.url",
+								"jdbc:h2:mem:capacity-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"),
+						"--board.search.index-path=./target/test-data/capacity-" + mode + "-index",
+						"--board.storage.local.root=./target/test-data/capacity-" + mode + "-upload")) {
+			configure(context.getEnvironment());
+			List<Long> boardIds = seed(context);
+			String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+			Map<String, IntFunction<URI>> targets = new LinkedHashMap<>();
+			targets.put("list", i -> URI.create(baseUrl + "/board/list?page="
+					+ ThreadLocalRandom.current().nextInt(boards / 10)));
+			targets.put("detail", i -> URI.create(baseUrl + "/board/detail/"
+					+ boardIds.get(ThreadLocalRandom.current().nextInt(boardIds.size()))));
+
+			warmUp(targets);
+			Map<String, Capacity> capacities = new LinkedHashMap<>();
+			for (Map.Entry<String, IntFunction<URI>> target : targets.entrySet()) {
+				capacities.put(target.getKey(), rampUp(mode, target.getKey(), target.getValue()));
+			}
+			return capacities;
+		}
+	}
+
+	// JIT 컴파일, 템플릿/캐시 준비가 첫 단계 결과에 섞이지 않도록 요청을 하나씩 계속 보냄
+	private void warmUp(Map<String, IntFunction<URI>> targets) throws Exception {
+		long end = System.nanoTime() + warmup.toNanos();
+		for (int i = 0; System.nanoTime() < end; i++) {
+			for (IntFunction<URI> target : targets.values()) {
+				client.send(HttpRequest.newBuilder(target.apply(i)).timeout(TIMEOUT).GET().build(),
+						HttpResponse.BodyHandlers.discarding());
+			}
+		}
+	}
+
+	// 기준을 지키는 동안 초당 요청 수를 step-factor배씩 올림
+	private Capacity rampUp(String mode, String endpoint, IntFunction<URI> target) throws InterruptedException {
+		Capacity sustained = new Capacity(0, 0);
+		for (int rps = startRps; rps <= maxRps; rps = (int) Math.ceil(rps * stepFactor)) {
+			Step step = runStep(endpoint, rps, target);
+			log.info("{} {} {}req/s: 처리 {}req/s, p99 {}ms, 오류 {}", mode, endpoint, rps,
+					String.format(Locale.ROOT, "%.1f", step.achievedRps()),
+					String.format(Locale.ROOT, "%.1f", step.stats().p99()), step.stats().errors());
+			boolean keepsUp = step.achievedRps() >= rps * 0.95;
+			if (!keepsUp || step.stats().p99() > p99LimitMs || step.stats().errorRate() > maxErrorRate) {
+				break;
+			}
+			sustained = new Capacity(rps, step.stats().p99());
+		}
+		return sustained;
+	}
+
+	// 열린 모델: 앞 요청의 응답과 상관없이 1/rps초 간격으로 요청을 보냄 (밀린 요청은 그대로 지연 시간에 반영)
+	private Step runStep(String endpoint, int rps, IntFunction<URI> target) throws InterruptedException {
+		LatencyRecorder recorder = new LatencyRecorder();
+		AtomicInteger succeeded = new AtomicInteger();
+		int total = (int) (rps * stepDuration.toMillis() / 1000);
+		long interval = TimeUnit.SECONDS.toNanos(1) / rps;
+		List<CompletableFuture<?>> pending = new ArrayList<>(total);
+
+		recorder.start();
+		long start = System.nanoTime();
+		for (int i = 0; i < total; i++) {
+			long due = start + i * interval;
+			long wait = due - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			HttpRequest request = HttpRequest.newBuilder(target.apply(i)).timeout(TIMEOUT).GET().build();
+			long sent = System.nanoTime();
+			pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+					.whenComplete((response, error) -> {
+						boolean success = error == null && response.statusCode() < 400;
+						recorder.record(endpoint, System.nanoTime() - sent, success);
+						if (success && System.nanoTime() - start <= stepDuration.toNanos()) {
+							succeeded.incrementAndGet();
+						}
+					}));
+		}
+		pending.forEach(future -> {
+			try {
+				future.join();
+			} catch (RuntimeException e) {
+				// 실패는 whenComplete에서 기록됨
+			}
+		});
+		recorder.stop();
+
+		EndpointStats stats = recorder.stats().get(0);
+		return new Step(stats, succeeded.get() * 1000.0 / stepDuration.toMillis());
+	}
+
+	private void configure(Environment environment) {
+		boards = environment.getRequiredProperty("loadtest.boards", Integer.class);
+		startRps = environment.getRequiredProperty("loadtest.capacity.start-rps", Integer.class);
+		maxRps = environment.getRequiredProperty("loadtest.capacity.max-rps", Integer.class);
+		stepFactor = environment.getRequiredProperty("loadtest.capacity.step-factor", Double.class);
+		stepDuration = environment.getRequiredProperty("loadtest.capacity.step-duration", Duration.class);
+		p99LimitMs = environment.getRequiredProperty("loadtest.capacity.p99-ms", Double.class);
+		maxErrorRate = environment.getRequiredProperty("loadtest.slo.error-rate", Double.class);
+		warmup = environment.getRequiredProperty("loadtest.warmup", Duration.class);
+	}
+
+	private List<Long> seed(ConfigurableApplicationContext context) throws Exception {
+		ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+		String lines = IntStream.rangeClosed(1, boards)
+				.mapToObj(i -> objectMapper.createObjectNode()
+						.put("title", "처리량 측정 " + i)
+						.put("content", "본문 " + i)
+						.put("writer", "작성자" + i % 100)
+						.toString())
+				.collect(Collectors.joining("\n"));
+		context.getBean(BoardImportService.class).importJsonLines(new BufferedReader(new StringReader(lines)));
+		return context.getBean(JdbcTemplate.class).queryForList("SELECT id FROM board", Long.class);
+	}
+
+	record Capacity(int rps, double p99) {
+	}
+
+	private record Step(EndpointStats stats, double achievedRps) {
+	}
+}
@@ -0,0 +1,115 @@
+package com.example.board.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 브라우저 한 명: 쿠키(세션)를 따로 가지고, 리다이렉트는 따라가지 않는다.
+// (POST 후 리다이렉트된 화면까지 재면 다른 엔드포인트 시간이 섞이므로 요청 하나만 측정)
+class VirtualUser {
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+	private final String baseUrl;
+	private final String username;
+	private final String password;
+	private final LatencyRecorder recorder;
+	private final HttpClient client;
+
+	VirtualUser(String baseUrl, String username, String password, LatencyRecorder recorder) {
+		this.baseUrl = baseUrl;
+		this.username = username;
+		this.password = password;
+		this.recorder = recorder;
+		this.client = HttpClient.newBuilder()
+				.cookieHandler(new CookieManager())
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.connectTimeout(TIMEOUT)
+				.build();
+	}
+
+	// 로그인에 성공하면 /board/list로, 실패하면 /user/login으로 리다이렉트된다.
+	boolean login() {
+		return send("login", form("/user/login", Map.of("username", username, "password", password)), "/board/list");
+	}
+
+	boolean get(String endpoint, String path) {
+		return send(endpoint, HttpRequest.newBuilder(uri(path)).timeout(TIMEOUT).GET().build(), null);
+	}
+
+	boolean post(String endpoint, String path, Map<String, String> fields) {
+		return send(endpoint, form(path, fields), null);
+	}
+
+	// multipart/form-data (파일 하나)
+	boolean upload(String endpoint, String path, Map<String, String> fields, String fileField, String fileName,
+			byte[] content) {
+		String boundary = "----load-" + UUID.randomUUID();
+		ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 1024);
+		fields.forEach((name, value) -> write(body, "--" + boundary + "\r\nContent-Disposition: form-data; name=\""
+				+ name + "\"\r\n\r\n" + value + "\r\n"));
+		write(body, "--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + fileField + "\"; filename=\""
+				+ fileName + "\"\r\nContent-Type: application/octet-stream\r\n\r\n");
+		body.writeBytes(content);
+		write(body, "\r\n--" + boundary + "--\r\n");
+
+		HttpRequest request = HttpRequest.newBuilder(uri(path))
+				.timeout(TIMEOUT)
+				.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+				.POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+				.build();
+		return send(endpoint, request, null);
+	}
+
+	// 4xx/5xx, 또는 로그인 화면으로 돌려보내지면(세션 유실) 실패
+	private boolean send(String endpoint, HttpRequest request, String expectedLocation) {
+		long start = System.nanoTime();
+		boolean success;
+		try {
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			String location = response.headers().firstValue("Location").orElse("");
+			success = response.statusCode() < 400
+					&& !location.endsWith("/user/login")
+					&& (expectedLocation == null || location.endsWith(expectedLocation));
+		} catch (IOException e) {
+			success = false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		recorder.record(endpoint, System.nanoTime() - start, success);
+		return success;
+	}
+
+	private HttpRequest form(String path, Map<String, String> fields) {
+		String body = fields.entrySet().stream()
+				.map(field -> encode(field.getKey()) + "=" + encode(field.getValue()))
+				.collect(Collectors.joining("&"));
+		return HttpRequest.newBuilder(uri(path))
+				.timeout(TIMEOUT)
+				.header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(HttpRequest.BodyPublishers.ofString(body))
+				.build();
+	}
+
+	private URI uri(String path) {
+		return URI.create(baseUrl + path);
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	private static void write(ByteArrayOutputStream out, String text) {
+		out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.board.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 로그인 쿠키의 토큰을 확인해서 요청 속성 loginUser(LoginUser)로 넣음
+// 컨트롤러는 @RequestAttribute, 화면은 ${loginUser}로 읽는다. (세션은 만들지 않음)
+@RequiredArgsConstructor
+public class LoginTokenInterceptor implements HandlerInterceptor {
+    public static final String LOGIN_USER = "loginUser";
+
+    private final LoginTokenService loginTokenService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String token = loginTokenService.tokenFrom(request);
+        if (token == null || token.isEmpty()) {
+            return true;
+        }
+        LoginUser loginUser = loginTokenService.verify(token);
+        if (loginUser != null) {
+            request.setAttribute(LOGIN_USER, loginUser);
+        } else {
+            // 만료/폐기/위조된 토큰은 쿠키에서도 지움
+            loginTokenService.clearCookie(response);
+        }
+        return true;
+    }
+}
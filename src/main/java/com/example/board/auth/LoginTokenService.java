@@ -0,0 +1,210 @@
+package com.example.board.auth;
+
+import com.example.board.cache.SharedCache;
+import com.example.board.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+// 서버에 상태를 두지 않는 로그인 토큰 (HMAC-SHA256 서명 쿠키)
+// 형식: base64url(id \n 발급시각 \n 만료시각 \n 난수 \n 토큰세대 \n username \n name) . base64url(서명)
+// 서명 키(board.auth.token-secret)만 같으면 어느 서버든 토큰을 확인할 수 있다.
+//
+// 폐기(로그아웃, 비밀번호 변경, 탈퇴)는 users.token_version을 1 올려 그 사용자의 이전 토큰을 모두 무효화한다.
+// DB에 남으므로 재시작해도 유지되고, 확인할 때는 크기 제한이 있는 로컬 캐시(사용자id -> 세대)를 먼저 본다.
+// 공유 캐시(Redis)가 있으면 무효화 채널로 다른 서버의 캐시도 지우고,
+// 없더라도 캐시 항목은 version-cache-ttl이 지나면 DB에서 다시 읽는다.
+@Slf4j
+@Component
+public class LoginTokenService {
+    public static final String COOKIE = "BOARD_LOGIN";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION_CACHE = "auth.token-version";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final boolean secureCookie;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Long, Integer> versions;
+    private final SharedCache sharedCache;
+
+    public LoginTokenService(@Value("${board.auth.token-secret:}") String secret,
+                             @Value("${board.auth.token-ttl:12h}") Duration ttl,
+                             @Value("${board.auth.version-cache-size:100000}") long versionCacheSize,
+                             @Value("${board.auth.version-cache-ttl:1m}") Duration versionCacheTtl,
+                             @Value("${board.auth.cookie-secure:false}") boolean secureCookie,
+                             JdbcTemplate jdbcTemplate,
+                             Environment environment,
+                             ObjectProvider<SharedCache> sharedCacheProvider) {
+        this.key = new SecretKeySpec(secretBytes(secret, environment), ALGORITHM);
+        this.ttl = ttl;
+        this.secureCookie = secureCookie;
+        this.jdbcTemplate = jdbcTemplate;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(versionCacheSize)
+                .expireAfterWrite(versionCacheTtl)
+                .build();
+        this.sharedCache = sharedCacheProvider.getIfAvailable();
+
+        if (sharedCache != null) {
+            sharedCache.subscribeInvalidation((cacheName, keys) -> {
+                if (VERSION_CACHE.equals(cacheName)) {
+                    for (String userId : keys) {
+                        versions.invalidate(Long.valueOf(userId));
+                    }
+                }
+            });
+        }
+    }
+
+    public String issue(User user) {
+        Integer version = currentVersion(user.getId());
+        if (version == null) {
+            throw new IllegalStateException("존재하지 않는 사용자입니다.");
+        }
+        long now = System.currentTimeMillis();
+        byte[] nonce = new byte[8];
+        random.nextBytes(nonce);
+        String payload = user.getId() + "\n" + now + "\n" + (now + ttl.toMillis()) + "\n"
+                + ENCODER.encodeToString(nonce) + "\n" + version + "\n" + user.getUsername() + "\n" + user.getName();
+        String encoded = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encoded + "." + ENCODER.encodeToString(sign(encoded));
+    }
+
+    // 서명이 맞고, 만료/폐기되지 않은 토큰이면 사용자, 아니면 null
+    public LoginUser verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        String encoded = token.substring(0, dot);
+        String[] fields;
+        Long userId;
+        long expiresAt;
+        int version;
+        try {
+            if (!MessageDigest.isEqual(sign(encoded), DECODER.decode(token.substring(dot + 1)))) {
+                return null;
+            }
+            fields = new String(DECODER.decode(encoded), StandardCharsets.UTF_8).split("\n", 7);
+            if (fields.length != 7) {
+                return null;
+            }
+            userId = Long.valueOf(fields[0]);
+            expiresAt = Long.parseLong(fields[2]);
+            version = Integer.parseInt(fields[4]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= expiresAt) {
+            return null;
+        }
+        // 폐기로 세대가 올랐거나 탈퇴한 사용자(null)의 토큰은 거부
+        Integer current = currentVersion(userId);
+        if (current == null || current != version) {
+            return null;
+        }
+        return new LoginUser(userId, fields[5], fields[6]);
+    }
+
+    public String tokenFrom(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        return cookie == null ? null : cookie.getValue();
+    }
+
+    public void login(HttpServletResponse response, User user) {
+        writeCookie(response, issue(user), ttl);
+    }
+
+    // 세대는 사용자 단위이므로 로그아웃하면 그 사용자의 다른 기기 토큰도 함께 폐기된다.
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        String token = tokenFrom(request);
+        LoginUser loginUser = token == null ? null : verify(token);
+        if (loginUser != null) {
+            revokeAll(loginUser.getId());
+        }
+        clearCookie(response);
+    }
+
+    // 지금까지 발급된 사용자 토큰 전부 폐기 (다른 기기 포함)
+    public void revokeAll(Long userId) {
+        jdbcTemplate.update("UPDATE users SET token_version = token_version + 1 WHERE id = ?", userId);
+        // 올리기 전 값을 읽던 로드가 있으면 그 로드가 끝난 뒤 지워진다 (같은 key의 로드와 무효화는 순서대로 실행)
+        versions.invalidate(userId);
+        if (sharedCache != null) {
+            sharedCache.publishInvalidation(VERSION_CACHE, List.of(String.valueOf(userId)));
+        }
+    }
+
+    public void clearCookie(HttpServletResponse response) {
+        writeCookie(response, "", Duration.ZERO);
+    }
+
+    // 없는 사용자면 null (캐시에 남기지 않음)
+    private Integer currentVersion(Long userId) {
+        return versions.get(userId, id -> DataAccessUtils.singleResult(
+                jdbcTemplate.queryForList("SELECT token_version FROM users WHERE id = ?", Integer.class, id)));
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE, value)
+                .path("/")
+                .maxAge(maxAge)
+                .httpOnly(true)
+                .secure(secureCookie)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 키가 없으면 개발/테스트 프로필에서만 실행마다 새로 만든 임시 키 사용
+    // (재시작하면 로그인이 풀리고, 서버끼리 토큰을 인정하지 않으므로 그 밖의 환경에서는 시작하지 않음)
+    private static byte[] secretBytes(String secret, Environment environment) {
+        if (!secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        if (!environment.acceptsProfiles(Profiles.of("dev", "test"))) {
+            throw new IllegalStateException("board.auth.token-secret를 설정해야 합니다. (임시 키는 dev, test 프로필에서만 사용)");
+        }
+        log.warn("board.auth.token-secret이 없어 임시 서명 키를 사용합니다. 여러 서버로 띄울 때는 같은 키를 설정하세요.");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.board.auth;
+
+import com.example.board.entity.User;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 로그인한 사용자 (로그인 토큰에 담기는 값만)
+// 요청마다 LoginTokenInterceptor가 토큰을 확인해서 요청 속성 loginUser로 넣어 준다.
+@Getter
+@RequiredArgsConstructor
+public class LoginUser {
+    private final Long id;
+    private final String username;
+    private final String name;
+
+    public static LoginUser of(User user) {
+        return new LoginUser(user.getId(), user.getUsername(), user.getName());
+    }
+}
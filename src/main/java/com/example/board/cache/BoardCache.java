@@ -0,0 +1,100 @@
+package com.example.board.cache;
+
+import com.example.board.dto.BoardDetail;
+import com.example.board.dto.BoardSummary;
+import com.example.board.dto.CommentView;
+import com.example.board.dto.CursorPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+// 자주 읽히는 게시글 데이터 캐시
+// - 게시글 상세 (댓글/좋아요 여부 제외, 조회수는 캐시 시점의 DB 값이라 보여줄 때 쓰지 않음)
+// - 기본 정렬 목록의 앞쪽 몇 페이지
+// - 게시글별 댓글 첫 페이지 (+ 댓글 수)
+// 쓰기 쪽(BoardService, CommentService, 좋아요, 첨부파일 처리)이 커밋 후 해당 key만 지운다.
+// 조회수는 ViewCountAggregator가 따로 들고 있어서 반영할 때 이 캐시를 지우지 않는다.
+@Component
+public class BoardCache {
+    private static final Sort LIST_SORT = Sort.by(Sort.Direction.DESC, "id");
+
+    private final TwoTierCache<BoardDetail> details;
+    private final TwoTierCache<Page<BoardSummary>> listPages;
+    private final TwoTierCache<CursorPage<CommentView>> comments;
+    private final int listPageCount;
+    private final int listPageSize;
+
+    public BoardCache(ObjectProvider<SharedCache> sharedCacheProvider,
+                      MeterRegistry registry,
+                      @Value("${board.cache.detail.max-size:10000}") long detailMaxSize,
+                      @Value("${board.cache.comments.max-size:10000}") long commentsMaxSize,
+                      @Value("${board.cache.local-ttl:10m}") Duration localTtl,
+                      @Value("${board.cache.shared-ttl:60s}") Duration sharedTtl,
+                      @Value("${board.cache.shared-redelete-delay:2s}") Duration redeleteDelay,
+                      @Value("${board.cache.list.pages:5}") int listPageCount,
+                      @Value("${board.cache.list.page-size:10}") int listPageSize) {
+        SharedCache shared = sharedCacheProvider.getIfAvailable();
+        this.details = new TwoTierCache<>("board.detail", detailMaxSize, localTtl, shared, sharedTtl, redeleteDelay, registry);
+        this.listPages = new TwoTierCache<>("board.list", listPageCount, localTtl, shared, sharedTtl, redeleteDelay, registry);
+        this.comments = new TwoTierCache<>("board.comments", commentsMaxSize, localTtl, shared, sharedTtl, redeleteDelay, registry);
+        this.listPageCount = listPageCount;
+        this.listPageSize = listPageSize;
+
+        if (shared != null) {
+            Map<String, TwoTierCache<?>> caches = Map.of(
+                    details.getName(), details, listPages.getName(), listPages, comments.getName(), comments);
+            shared.subscribeInvalidation((cacheName, keys) -> {
+                TwoTierCache<?> cache = caches.get(cacheName);
+                if (cache != null) {
+                    cache.evictLocal(keys);
+                }
+            });
+        }
+    }
+
+    public BoardDetail detail(Long boardId, Supplier<BoardDetail> loader) {
+        return details.get(String.valueOf(boardId), loader);
+    }
+
+    public CursorPage<CommentView> comments(Long boardId, Supplier<CursorPage<CommentView>> loader) {
+        return comments.get(String.valueOf(boardId), loader);
+    }
+
+    // 기본 목록(id 내림차순, 기본 페이지 크기)의 앞쪽 페이지만 캐시
+    public boolean isCachedListPage(Pageable pageable) {
+        return pageable.getPageNumber() < listPageCount
+                && pageable.getPageSize() == listPageSize
+                && pageable.getSort().equals(LIST_SORT);
+    }
+
+    public Page<BoardSummary> listPage(Pageable pageable, Supplier<Page<BoardSummary>> loader) {
+        return listPages.get(String.valueOf(pageable.getPageNumber()), loader);
+    }
+
+    public void evictBoard(Long boardId) {
+        details.evict(String.valueOf(boardId));
+    }
+
+    public void evictBoards(Collection<Long> boardIds) {
+        details.evict(boardIds.stream().map(String::valueOf).toList());
+    }
+
+    public void evictComments(Long boardId) {
+        comments.evict(String.valueOf(boardId));
+    }
+
+    // 글이 추가/삭제되면 페이지 경계가 모두 밀리므로 캐시된 목록 페이지 전체를 지운다.
+    public void evictListPages() {
+        listPages.evict(IntStream.range(0, listPageCount).mapToObj(String::valueOf).toList());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.board.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+// Redis를 공유 캐시로 사용 (board.cache.redis.enabled=true일 때만)
+// Redis 장애 시에는 캐시 미스로 취급해서 DB로 넘어간다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.cache.redis.enabled", havingValue = "true")
+public class RedisSharedCache implements SharedCache {
+    private static final String INVALIDATION_CHANNEL = "board:cache:invalidate";
+
+    private final RedisTemplate<String, byte[]> redis;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisSharedCache(RedisConnectionFactory connectionFactory) {
+        this.redis = new RedisTemplate<>();
+        redis.setConnectionFactory(connectionFactory);
+        redis.setKeySerializer(RedisSerializer.string());
+        redis.setValueSerializer(RedisSerializer.byteArray());
+        redis.afterPropertiesSet();
+
+        this.listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        try {
+            return redis.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 조회 실패: {}", key, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        try {
+            redis.opsForValue().set(key, value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 저장 실패: {}", key, e);
+        }
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        try {
+            redis.delete(keys);
+        } catch (RuntimeException e) {
+            // 지우지 못한 값은 TTL이 지나면 사라짐
+            log.warn("공유 캐시 삭제 실패: {}", keys, e);
+        }
+    }
+
+    // 메시지 형식: 첫 줄은 캐시 이름, 나머지 줄은 key
+    @Override
+    public void publishInvalidation(String cacheName, Collection<String> keys) {
+        String message = cacheName + "\n" + String.join("\n", keys);
+        try {
+            redis.convertAndSend(INVALIDATION_CHANNEL, message.getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 전송 실패: {}", cacheName, e);
+        }
+    }
+
+    @Override
+    public void subscribeInvalidation(BiConsumer<String, Collection<String>> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            List<String> lines = Arrays.asList(new String(message.getBody(), StandardCharsets.UTF_8).split("\n"));
+            listener.accept(lines.get(0), lines.subList(1, lines.size()));
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        listenerContainer.destroy();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.board.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+// 여러 서버가 함께 쓰는 2단계(공유) 캐시 저장소
+// 값은 직렬화된 byte[]로 저장하고, 로컬 캐시 무효화는 메시지로 다른 서버에 알린다.
+public interface SharedCache {
+
+    // 없거나 저장소에 접근할 수 없으면 null
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void delete(Collection<String> keys);
+
+    // 다른 서버의 로컬 캐시에서 keys를 지우도록 알림
+    void publishInvalidation(String cacheName, Collection<String> keys);
+
+    void subscribeInvalidation(BiConsumer<String, Collection<String>> listener);
+}
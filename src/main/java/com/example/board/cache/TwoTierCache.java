@@ -0,0 +1,170 @@
+package com.example.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// 1단계: 서버 로컬 Caffeine (W-TinyLFU, 크기/TTL 제한)
+// 2단계: 공유 캐시 (없으면 로컬만 사용)
+// 무효화는 양쪽 모두에서 지우고, 다른 서버의 로컬 캐시에도 메시지로 알린다.
+@Slf4j
+public class TwoTierCache<V> {
+    private static final int GENERATION_STRIPES = 1024;
+
+    // 공유 캐시에서 읽는 값은 이 패키지들의 클래스만 허용
+    private static final ObjectInputFilter DESERIALIZE_FILTER = ObjectInputFilter.Config.createFilter(
+            "com.example.board.**;java.**;org.springframework.data.domain.**;!*");
+
+    private final String name;
+    private final Cache<String, V> local;
+    private final SharedCache shared;
+    private final Duration sharedTtl;
+    private final Executor redelete;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    // key별(stripe) 무효화 번호: 로딩 도중 무효화되었으면 로딩한 (옛) 값을 공유 캐시에 넣지 않음
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public TwoTierCache(String name, long maximumSize, Duration localTtl,
+                        SharedCache shared, Duration sharedTtl, Duration redeleteDelay, MeterRegistry registry) {
+        this.name = name;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        this.shared = shared;
+        this.sharedTtl = sharedTtl;
+        this.redelete = CompletableFuture.delayedExecutor(redeleteDelay.toMillis(), TimeUnit.MILLISECONDS);
+
+        // cache.gets / cache.evictions 등 (cache=이름)
+        CaffeineCacheMetrics.monitor(registry, local, name);
+        this.sharedHits = Counter.builder("board.cache.shared").tag("cache", name).tag("result", "hit").register(registry);
+        this.sharedMisses = Counter.builder("board.cache.shared").tag("cache", name).tag("result", "miss").register(registry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // 로컬 -> 공유 -> loader 순서로 찾음 (loader가 null을 돌려주면 캐시하지 않음)
+    // 같은 key를 동시에 요청해도 loader는 서버마다 한 번만 실행된다.
+    public V get(String key, Supplier<V> loader) {
+        return local.get(key, k -> loadShared(k, loader));
+    }
+
+    // 쓰기가 커밋된 후 호출
+    // 로딩 중인 key를 지우면 Caffeine이 로딩이 끝날 때까지 기다렸다가 지우므로 이 서버의 옛 값은 남지 않는다.
+    // 다른 서버가 커밋 전에 읽은 값을 이 삭제 뒤에 공유 캐시에 넣을 수 있으므로 잠시 뒤 한 번 더 지운다.
+    public void evict(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        invalidateGenerations(keys);
+        local.invalidateAll(keys);
+        if (shared != null) {
+            List<String> sharedKeys = keys.stream().map(this::sharedKey).toList();
+            shared.delete(sharedKeys);
+            shared.publishInvalidation(name, keys);
+            redelete.execute(() -> {
+                try {
+                    shared.delete(sharedKeys);
+                } catch (RuntimeException e) {
+                    log.warn("공유 캐시 지연 삭제 실패: {}", name, e);
+                }
+            });
+        }
+    }
+
+    public void evict(String key) {
+        evict(List.of(key));
+    }
+
+    // 다른 서버가 보낸 무효화 메시지 처리 (이 서버에서 로딩 중인 값도 공유 캐시에 넣지 않게 됨)
+    void evictLocal(Collection<String> keys) {
+        invalidateGenerations(keys);
+        local.invalidateAll(keys);
+    }
+
+    private void invalidateGenerations(Collection<String> keys) {
+        for (String key : keys) {
+            generations.incrementAndGet(stripe(key));
+        }
+    }
+
+    private int stripe(String key) {
+        return key.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private V loadShared(String key, Supplier<V> loader) {
+        if (shared == null) {
+            return loader.get();
+        }
+
+        byte[] bytes = shared.get(sharedKey(key));
+        if (bytes != null) {
+            V value = deserialize(bytes);
+            if (value != null) {
+                sharedHits.increment();
+                return value;
+            }
+        }
+        sharedMisses.increment();
+
+        long generation = generations.get(stripe(key));
+        V value = loader.get();
+        if (value != null && generations.get(stripe(key)) == generation) {
+            byte[] serialized = serialize(value);
+            if (serialized != null) {
+                shared.put(sharedKey(key), serialized, sharedTtl);
+            }
+        }
+        return value;
+    }
+
+    private String sharedKey(String key) {
+        return "board:cache:" + name + ":" + key;
+    }
+
+    private byte[] serialize(V value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            log.warn("캐시 값 직렬화 실패: {}", name, e);
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    // 클래스 구조가 바뀐 뒤의 옛 값 등은 미스로 처리
+    @SuppressWarnings("unchecked")
+    private V deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(DESERIALIZE_FILTER);
+            return (V) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            log.warn("캐시 값 역직렬화 실패: {}", name, e);
+            return null;
+        }
+    }
+}
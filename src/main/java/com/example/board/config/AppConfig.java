@@ -1,14 +1,39 @@
 package com.example.board.config;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
+	private static final int ARGON2_SALT_LENGTH = 16;
+	private static final int ARGON2_HASH_LENGTH = 32;
+	private static final int ARGON2_PARALLELISM = 1;
+
+	// 새 비밀번호는 board.password.encoder 방식({bcrypt} 또는 {argon2} 접두사)으로 저장
+	// 접두사 없는 기존 해시는 bcrypt로 비교하고, 로그인에 성공하면 지금 설정으로 다시 해시해서 저장한다.
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(
+			@Value("${board.password.encoder:bcrypt}") String encoderId,
+			@Value("${board.password.bcrypt.strength:10}") int bcryptStrength,
+			@Value("${board.password.argon2.memory-kb:16384}") int argon2MemoryKb,
+			@Value("${board.password.argon2.iterations:2}") int argon2Iterations) {
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+		// Argon2는 BouncyCastle(bcprov)로 계산
+		Argon2PasswordEncoder argon2 = new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH,
+				ARGON2_PARALLELISM, argon2MemoryKb, argon2Iterations);
+
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encoderId,
+				Map.of("bcrypt", bcrypt, "argon2", argon2));
+		encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return encoder;
 	}
 }
@@ -0,0 +1,76 @@
+package com.example.board.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+	// 첨부파일 저장용 스레드 풀 (크기/큐 모두 제한)
+	// 큐가 가득 차면 요청 스레드가 직접 처리해서 자연스럽게 속도가 조절된다.
+	// 가상 스레드 모드(spring.threads.virtual.enabled, Java 21)에서는 작업마다 가상 스레드를 만들고
+	// 동시에 pool-size개까지만 실행한다. (넘치면 요청 스레드가 자리가 날 때까지 기다림)
+	@Bean
+	public AsyncTaskExecutor uploadExecutor(
+			Environment environment,
+			@Value("${board.upload.pool-size:4}") int poolSize,
+			@Value("${board.upload.queue-capacity:100}") int queueCapacity) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("upload-");
+			executor.setVirtualThreads(true);
+			executor.setConcurrencyLimit(poolSize);
+			executor.setTaskTerminationTimeout(60_000);
+			return executor;
+		}
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("upload-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		// 종료 시 진행 중인 업로드는 마무리
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		return executor;
+	}
+
+	// 이미지 썸네일/축소본 생성용 스레드 풀
+	// CPU를 많이 쓰는 작업이라 작게 유지하고, 큐가 차면 작업을 거절한다 (원본으로 대체 표시, 나중에 주기적으로 다시 등록).
+	// 가상 스레드로 바꿔도 이득이 없으므로 가상 스레드 모드에서도 플랫폼 스레드를 쓴다.
+	@Bean
+	public ThreadPoolTaskExecutor derivativeExecutor(
+			@Value("${board.derivative.pool-size:2}") int poolSize,
+			@Value("${board.derivative.queue-capacity:200}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("derivative-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		return executor;
+	}
+
+	// 비밀번호 해시(bcrypt/argon2) 계산용 스레드 풀
+	// 요청 스레드(가상 스레드 포함)가 아무리 많아도 해시 계산은 pool-size개까지만 동시에 하고,
+	// 큐가 차면 기다리게 하지 않고 바로 거절한다. (로그인 폭주 때 다른 요청까지 느려지지 않도록)
+	@Bean
+	public ThreadPoolTaskExecutor passwordHashExecutor(
+			@Value("${board.password.hash.pool-size:2}") int poolSize,
+			@Value("${board.password.hash.queue-capacity:50}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-hash-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		return executor;
+	}
+}
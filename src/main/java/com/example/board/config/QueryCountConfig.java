@@ -0,0 +1,36 @@
+package com.example.board.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.example.board.monitoring.QueryCountFilter;
+import com.example.board.monitoring.QueryCounter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 요청별 SQL 문 수 세기 (Hibernate StatementInspector + 서블릿 필터)
+@Configuration
+public class QueryCountConfig {
+
+	// spring.jpa.properties로 다른 StatementInspector를 지정했으면 그쪽을 사용
+	@Bean
+	public HibernatePropertiesCustomizer queryCounterCustomizer() {
+		return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+	}
+
+	// 다른 필터에서 실행되는 SQL까지 포함하도록 가장 바깥에서 실행
+	@Bean
+	public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry registry,
+			@Value("${board.query-count.header:false}") boolean exposeHeader,
+			@Value("${board.query-count.warn-threshold:20}") int warnThreshold) {
+		FilterRegistrationBean<QueryCountFilter> registration =
+				new FilterRegistrationBean<>(new QueryCountFilter(registry, exposeHeader, warnThreshold));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+}
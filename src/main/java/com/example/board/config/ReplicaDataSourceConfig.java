@@ -0,0 +1,105 @@
+package com.example.board.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.board.datasource.ReadYourWritesInterceptor;
+import com.example.board.datasource.ReplicaProperties;
+import com.example.board.datasource.ReplicaRoutingDataSource;
+import com.example.board.datasource.ReplicaRoutingJpaDialect;
+import com.zaxxer.hikari.HikariDataSource;
+
+// 읽기 전용 트랜잭션을 replica로 보내는 설정 (board.datasource.routing.enabled=true일 때)
+// 꺼져 있으면 Spring Boot 기본 DataSource 하나만 사용한다.
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig implements WebMvcConfigurer {
+
+	private final ReplicaProperties replicaProperties;
+
+	public ReplicaDataSourceConfig(ReplicaProperties replicaProperties) {
+		this.replicaProperties = replicaProperties;
+	}
+
+	// 쓰기용 primary (spring.datasource.*, spring.datasource.hikari.*)
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	// 연결 풀 크기/대기 시간은 primary 설정(spring.datasource.hikari.*)을 따름
+	@Bean
+	public ReplicaDataSources replicaDataSources(DataSourceProperties properties, HikariDataSource primaryDataSource) {
+		List<HikariDataSource> replicas = new ArrayList<>();
+		for (ReplicaProperties.Replica replica : replicaProperties.getReplicas()) {
+			HikariDataSource dataSource = new HikariDataSource();
+			dataSource.setPoolName("replica-" + replicas.size());
+			dataSource.setJdbcUrl(replica.getUrl());
+			dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : properties.getUsername());
+			dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : properties.getPassword());
+			dataSource.setDriverClassName(replica.getDriverClassName() != null
+					? replica.getDriverClassName() : properties.determineDriverClassName());
+			dataSource.setReadOnly(true);
+			dataSource.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+			// 설정하지 않았으면 -1 (Hikari가 풀을 열 때 최대 크기로 정함)
+			if (primaryDataSource.getMinimumIdle() >= 0) {
+				dataSource.setMinimumIdle(primaryDataSource.getMinimumIdle());
+			}
+			dataSource.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+			replicas.add(dataSource);
+		}
+		return new ReplicaDataSources(replicas);
+	}
+
+	// JPA, JdbcTemplate 등이 쓰는 DataSource
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSources replicaDataSources) {
+		return ReplicaRoutingDataSource.create(primaryDataSource, List.copyOf(replicaDataSources.dataSources()));
+	}
+
+	// open-in-view 중에도 트랜잭션마다 연결을 새로 라우팅 (ReplicaRoutingJpaDialect 참고)
+	@Bean
+	public static BeanPostProcessor replicaRoutingJpaDialect() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof LocalContainerEntityManagerFactoryBean factory) {
+					factory.setJpaDialect(new ReplicaRoutingJpaDialect());
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ReadYourWritesInterceptor(replicaProperties.getReadYourWritesWindow()));
+	}
+
+	// 종료 시 replica 연결 풀 정리
+	public record ReplicaDataSources(List<HikariDataSource> dataSources) implements AutoCloseable {
+		@Override
+		public void close() {
+			dataSources.forEach(HikariDataSource::close);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.board.controller;
+
+import java.util.NoSuchElementException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import lombok.extern.slf4j.Slf4j;
+
+// JSON API의 오류 응답 (ProblemDetail)
+// - ResponseStatusException, 잘못된 JSON/파라미터 등 Spring MVC 예외: 상위 클래스가 알맞은 4xx로
+// - 없는 게시글/댓글(NoSuchElementException): 404, 잘못된 입력(IllegalArgumentException): 400 (메시지 그대로)
+// - 그 밖의 예외는 서버 오류: 500 + 고정 문구 (내부 메시지는 응답에 넣지 않고 로그로만)
+@Slf4j
+@RestControllerAdvice(assignableTypes = BoardApiController.class)
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+	@ExceptionHandler(NoSuchElementException.class)
+	public ResponseEntity<ProblemDetail> handleNotFound(NoSuchElementException e) {
+		return ResponseEntity.status(HttpStatus.NOT_FOUND)
+				.body(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage()));
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<ProblemDetail> handleBadRequest(IllegalArgumentException e) {
+		return ResponseEntity.badRequest().body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+	}
+
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<ProblemDetail> handleUnexpected(Exception e) {
+		log.error("API 요청 처리 실패", e);
+		return ResponseEntity.internalServerError()
+				.body(ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "요청을 처리하지 못했습니다."));
+	}
+}
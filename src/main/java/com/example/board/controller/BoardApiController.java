@@ -0,0 +1,129 @@
+package com.example.board.controller;
+
+import com.example.board.auth.LoginTokenInterceptor;
+import com.example.board.auth.LoginUser;
+import com.example.board.dto.AttachmentsView;
+import com.example.board.dto.BoardDetail;
+import com.example.board.dto.BoardSummary;
+import com.example.board.dto.CommentRequest;
+import com.example.board.dto.CommentResult;
+import com.example.board.dto.CommentView;
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.LikeResult;
+import com.example.board.entity.Comment;
+import com.example.board.service.BoardLikeService;
+import com.example.board.service.BoardService;
+import com.example.board.service.CommentService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+// 화면(Thymeleaf) 대신 JSON으로 주고받는 API
+// 좋아요/댓글처럼 화면 일부만 바뀌는 요청은 리다이렉트 + 상세 화면 전체를 다시 그리지 않고 바뀐 값만 돌려준다.
+// 로그인은 화면과 같은 로그인 쿠키(토큰)를 쓰고, 로그인이 필요한 요청에 토큰이 없으면 401
+// 오류 응답은 ApiExceptionHandler
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class BoardApiController {
+	private static final int MAX_PAGE_SIZE = 100;
+
+	private final BoardService boardService;
+	private final CommentService commentService;
+	private final BoardLikeService boardLikeService;
+
+	// 목록/검색 (커서 페이징, keyword가 있으면 검색)
+	@GetMapping("/boards")
+	public CursorPage<BoardSummary> boards(@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(defaultValue = "titleOrContent") String searchType,
+			@RequestParam(required = false) String keyword) {
+		int pageSize = pageSize(size);
+		return keyword == null || keyword.isEmpty()
+				? boardService.findAll(cursor, pageSize)
+				: boardService.search(searchType, keyword, cursor, pageSize);
+	}
+
+	// 상세 (게시글 + 댓글 첫 페이지 + 첨부파일 + 좋아요 여부)
+	@GetMapping("/boards/{id}")
+	public BoardDetail board(@PathVariable Long id, HttpServletRequest request) {
+		LoginUser loginUser = currentUser(request);
+		return boardService.findDetail(id, loginUser == null ? null : loginUser.getId());
+	}
+
+	@GetMapping("/boards/{id}/files")
+	public AttachmentsView files(@PathVariable Long id) {
+		return boardService.findAttachments(id);
+	}
+
+	@GetMapping("/boards/{id}/comments")
+	public CursorPage<CommentView> comments(@PathVariable Long id,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "${board.comment.page-size:50}") int size) {
+		return commentService.findPage(id, cursor, pageSize(size));
+	}
+
+	@GetMapping("/comments/{id}/replies")
+	public CursorPage<CommentView> replies(@PathVariable Long id,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "${board.comment.page-size:50}") int size) {
+		return commentService.findReplies(id, cursor, pageSize(size));
+	}
+
+	// 좋아요 토글 -> {liked, likeCount}
+	@PostMapping("/boards/{id}/like")
+	public LikeResult toggleLike(@PathVariable Long id, HttpServletRequest request) {
+		return boardLikeService.toggleLikeWithCount(id, loginUser(request).getId());
+	}
+
+	// 댓글 작성 -> {comment, commentCount}
+	@PostMapping("/boards/{id}/comments")
+	@ResponseStatus(HttpStatus.CREATED)
+	public CommentResult writeComment(@PathVariable Long id, @RequestBody CommentRequest comment,
+			HttpServletRequest request) {
+		LoginUser loginUser = loginUser(request);
+		if (comment.getContent() == null || comment.getContent().isBlank()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "댓글 내용을 입력해 주세요.");
+		}
+		return commentService.saveWithCount(id, comment.getParentId(), loginUser.getName(), comment.getContent());
+	}
+
+	// 댓글 삭제 -> {comment(삭제된 댓글로 남으면), commentCount}
+	@DeleteMapping("/comments/{id}")
+	public CommentResult deleteComment(@PathVariable Long id, HttpServletRequest request) {
+		LoginUser loginUser = loginUser(request);
+		Comment comment = commentService.findById(id);
+		if (comment.isDeleted() || !loginUser.getName().equals(comment.getWriter())) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인이 작성한 댓글만 삭제할 수 있습니다.");
+		}
+		return commentService.deleteWithCount(id);
+	}
+
+	private LoginUser currentUser(HttpServletRequest request) {
+		return (LoginUser) request.getAttribute(LoginTokenInterceptor.LOGIN_USER);
+	}
+
+	private LoginUser loginUser(HttpServletRequest request) {
+		LoginUser loginUser = currentUser(request);
+		if (loginUser == null) {
+			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+		}
+		return loginUser;
+	}
+
+	private static int pageSize(int size) {
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+}
@@ -1,100 +1,209 @@
 package com.example.board.controller;
 
+import com.example.board.auth.LoginTokenInterceptor;
+import com.example.board.auth.LoginUser;
+import com.example.board.cache.BoardCache;
 import com.example.board.config.AppConfig;
+import com.example.board.dto.BoardDetail;
+import com.example.board.dto.BoardSummary;
+import com.example.board.dto.CommentView;
+import com.example.board.dto.CursorPage;
+import com.example.board.entity.AttachmentStatus;
 import com.example.board.entity.Board;
-import com.example.board.entity.BoardFile;
-import com.example.board.entity.Comment;
-import com.example.board.entity.User;
+import com.example.board.service.AttachmentUploader;
 import com.example.board.service.BoardLikeService;
 import com.example.board.service.BoardService;
-import com.example.board.service.CommentService;
-import com.example.board.service.FileService;
+import com.example.board.view.FragmentCache;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
 public class BoardController {
+	// 캐시된 게시글 본문 HTML에서 조회수가 들어갈 자리
+	private static final String VIEW_COUNT_SLOT = "<!--view-count-->";
+	// 캐시된 목록 HTML에서 게시글별 조회수가 들어갈 자리
+	private static final Pattern LIST_VIEW_COUNT_SLOT = Pattern.compile("<!--view-count:(\\d+)-->");
 
 	private final AppConfig appConfig;
 	private final BoardService boardService;
-	private final CommentService commentService;
 	private final BoardLikeService boardLikeService;
-	private final FileService fileService;
+	private final AttachmentUploader attachmentUploader;
+	private final BoardCache boardCache;
+	private final FragmentCache fragmentCache;
 
+	@SuppressWarnings("unchecked")
 	@GetMapping("/board/list")
 	public String list(@PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
 			@RequestParam(required = false) String searchType, @RequestParam(required = false) String keyword,
-			Model model) {
-		Page<Board> boards;
+			@RequestParam(required = false) String cursor, Model model,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		boolean searching = keyword != null && !keyword.isEmpty();
 
-		if (keyword != null && !keyword.isEmpty()) {
-			boards = boardService.search(searchType, keyword, pageable);
-		} else {
-			boards = boardService.findAll(pageable);
-		}
+		Object boards = findBoards(pageable, searchType, keyword, cursor);
+
+		// 기본 목록의 앞쪽 페이지는 (페이지 번호 + 목록 내용 해시) 버전으로 렌더링 결과를 재사용
+		String version = !searching && cursor == null && boardCache.isCachedListPage(pageable)
+				? pageable.getPageNumber() + ":" + contentVersion((Page<BoardSummary>) boards)
+				: null;
 
-		model.addAttribute("boards", boards);
-		model.addAttribute("searchType", searchType);
-		model.addAttribute("keyword", keyword);
+		// 로그인하지 않은 사용자는 모두 같은 화면이므로 ETag 확인 후 캐시된 HTML을 그대로 보냄
+		if (version != null && loginUser(request) == null) {
+			if (new ServletWebRequest(request, response).checkNotModified(fragmentCache.etag("list:" + version))) {
+				return null;
+			}
+			byte[] page = fragmentCache.page(version, "board/list",
+					() -> listModel(boards, pageable, searchType, keyword, cursor, version, request, response), request, response);
+			byte[] html = fillViewCounts(new String(page, StandardCharsets.UTF_8), boards).getBytes(StandardCharsets.UTF_8);
+			response.setContentType("text/html;charset=UTF-8");
+			response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+			response.setContentLength(html.length);
+			response.getOutputStream().write(html);
+			return null;
+		}
 
+		Map<String, Object> listModel = listModel(boards, pageable, searchType, keyword, cursor, version, request, response);
+		listModel.put("listTableHtml", fillViewCounts((String) listModel.get("listTableHtml"), boards));
+		model.addAllAttributes(listModel);
 		return "board/list";
 	}
 
+	// cursor 파라미터가 있으면 (빈 값이면 첫 페이지) keyset 페이징
+	private Object findBoards(Pageable pageable, String searchType, String keyword, String cursor) {
+		boolean searching = keyword != null && !keyword.isEmpty();
+		if (cursor != null) {
+			return searching
+					? boardService.search(searchType, keyword, cursor, pageable.getPageSize())
+					: boardService.findAll(cursor, pageable.getPageSize());
+		}
+		return searching
+				? boardService.search(searchType, keyword, pageable)
+				: boardService.findAll(pageable);
+	}
+
+	// 목록 화면에 보이는 내용(조회수 제외)의 해시
+	// 서버마다 같은 값이 나오고, 조회수만 바뀌어서는 달라지지 않는다.
+	private static String contentVersion(Page<BoardSummary> boards) {
+		StringBuilder content = new StringBuilder().append(boards.getTotalElements());
+		for (BoardSummary board : boards.getContent()) {
+			content.append('\0').append(board.getId())
+					.append('\0').append(board.getTitle())
+					.append('\0').append(board.getWriter())
+					.append('\0').append(board.getCreatedDate());
+		}
+		return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 목록 HTML은 조회수 칸을 비운 채 캐시되므로 보낼 때 채움
+	@SuppressWarnings("unchecked")
+	private String fillViewCounts(String html, Object boards) {
+		List<BoardSummary> rows = boards instanceof Page<?> page
+				? ((Page<BoardSummary>) page).getContent()
+				: ((CursorPage<BoardSummary>) boards).getContent();
+		Map<Long, Integer> counts = rows.stream().collect(Collectors.toMap(BoardSummary::getId, BoardSummary::getViewCount));
+		return LIST_VIEW_COUNT_SLOT.matcher(html).replaceAll(slot -> {
+			Integer count = counts.get(Long.valueOf(slot.group(1)));
+			return count == null ? "" : String.valueOf(count);
+		});
+	}
+
+	private Map<String, Object> listModel(Object boards, Pageable pageable, String searchType, String keyword, String cursor,
+			String version, HttpServletRequest request, HttpServletResponse response) {
+		Map<String, Object> model = new HashMap<>();
+		model.put("boards", boards);
+		model.put("cursorMode", cursor != null);
+		model.put("searchType", searchType);
+		model.put("keyword", keyword);
+
+		model.put("listTableHtml", fragmentCache.fragment(version, "board/fragments", "listTable", model, request, response));
+		if (cursor == null) {
+			model.put("paginationHtml", fragmentCache.fragment(version, "board/fragments", "pagination", model, request, response));
+		}
+		return model;
+	}
+
 	@GetMapping("/board/detail/{id}")
-	public String detail(@PathVariable Long id, Model model, HttpSession session) {
-		Board board = boardService.findById(id);
-		List<Comment> comments = commentService.findByBoardId(id);
+	public String detail(@PathVariable Long id, Model model, @RequestAttribute(name = "loginUser", required = false) LoginUser loginUser,
+			HttpServletRequest request, HttpServletResponse response) {
+		BoardDetail board = boardService.findDetail(id, loginUser == null ? null : loginUser.getId());
 		
-		long likeCount = boardLikeService.countLikes(id);
+		model.addAttribute("board", board);
+		model.addAttribute("comments", board.getComments());
+		model.addAttribute("likeCount", board.getLikeCount());
+		model.addAttribute("isLiked", board.isLiked());
+		model.addAttribute("files", board.getFiles());
 		
-		boolean isLiked = false;
-		User loginUser = (User)session.getAttribute("loginUser");
-		if(loginUser != null) {
-			isLiked = boardLikeService.isLiked(id, loginUser.getId());
-		}
+		// 게시글 본문/첨부파일/댓글은 데이터 버전별로 렌더링된 HTML을 재사용하고,
+		// 조회수와 로그인 사용자별 부분(좋아요 버튼, 수정/삭제 버튼)만 매번 그린다.
+		Map<String, Object> variables = new HashMap<>();
+		variables.put("board", board);
+		variables.put("files", board.getFiles());
+		variables.put("comments", board.getComments());
+		variables.put("commentCount", board.getCommentCount());
+		variables.put("nextCommentCursor", board.getNextCommentCursor());
+		variables.put("loginUser", loginUser);
 		
-		List<BoardFile> files = fileService.getFilesByBoard(board);
+		LocalDateTime modified = board.getModifiedDate() != null ? board.getModifiedDate() : board.getCreatedDate();
+		String boardTable = fragmentCache.fragment(id + ":" + modified, "board/fragments", "boardTable", variables, request, response);
+		model.addAttribute("boardTableHtml", boardTable.replace(VIEW_COUNT_SLOT, String.valueOf(board.getViewCount())));
 		
-		model.addAttribute("board", board);
-		model.addAttribute("comments", comments);
-		model.addAttribute("likeCount", likeCount);
-		model.addAttribute("isLiked", isLiked);
-		model.addAttribute("files", files);
+		String filesVersion = id + ":" + board.getAttachmentStatus() + ":"
+				+ board.getFiles().stream().map(file -> String.valueOf(file.getId())).collect(Collectors.joining(","));
+		model.addAttribute("attachmentsHtml", fragmentCache.fragment(filesVersion, "board/fragments", "attachments", variables, request, response));
+		
+		// 본인 댓글이 있으면 삭제 버튼이 들어가므로 캐시하지 않음 (더보기로 읽는 댓글은 화면에서 그림)
+		boolean ownsComment = loginUser != null
+				&& board.getComments().stream().anyMatch(comment -> !comment.isDeleted() && loginUser.getName().equals(comment.getWriter()));
+		String commentsVersion = ownsComment ? null : id + ":" + board.getCommentCount() + ":" + commentsVersion(board.getComments());
+		model.addAttribute("commentsHtml", fragmentCache.fragment(commentsVersion, "board/fragments", "comments", variables, request, response));
 		
 		return "board/detail";
 	}
 
+	// 댓글 내용은 수정되지 않으므로 첫 페이지의 id/삭제 여부/답글 수와 전체 댓글 수가 같으면 같은 화면
+	private String commentsVersion(List<CommentView> comments) {
+		long hash = 1125899906842597L;
+		for (CommentView comment : comments) {
+			hash = 31 * hash + comment.getId();
+			hash = 31 * hash + (comment.isDeleted() ? 1 : 0);
+			hash = 31 * hash + comment.getReplyCount();
+		}
+		return comments.size() + ":" + Long.toHexString(hash);
+	}
+
+	private LoginUser loginUser(HttpServletRequest request) {
+		return (LoginUser) request.getAttribute(LoginTokenInterceptor.LOGIN_USER);
+	}
+
 	@GetMapping("/board/write")
-	public String writeForm(HttpSession session) {
-	    User loginUser = (User) session.getAttribute("loginUser");
+	public String writeForm(@RequestAttribute(name = "loginUser", required = false) LoginUser loginUser) {
 	    
 	    if (loginUser == null) {
 	        return "redirect:/user/login";
@@ -107,40 +216,32 @@ public class BoardController {
 	public String write(
 	        Board board, 
 	        @RequestParam(value = "uploadFiles", required = false) List<MultipartFile> files,
-	        HttpSession session) {
+	        @RequestAttribute(name = "loginUser", required = false) LoginUser loginUser) {
 	    
-	    User loginUser = (User) session.getAttribute("loginUser");
 	    
 	    if (loginUser == null) {
 	        return "redirect:/user/login";
 	    }
 	    
+	    // 빈 파일 제외
+	    List<MultipartFile> validFiles = files == null ? List.of() : files.stream()
+	        .filter(file -> !file.isEmpty())
+	        .collect(Collectors.toList());
+	    
 	    board.setWriter(loginUser.getName());
+	    board.setAttachmentStatus(validFiles.isEmpty() ? AttachmentStatus.NONE : AttachmentStatus.PROCESSING);
 	    Board savedBoard = boardService.save(board);
 	    
-	    // 파일 업로드 처리 (개선)
-	    if (files != null && !files.isEmpty()) {
-	        // 빈 파일 제외
-	        List<MultipartFile> validFiles = files.stream()
-	            .filter(file -> !file.isEmpty())
-	            .collect(Collectors.toList());
-	        
-	        if (!validFiles.isEmpty()) {
-	            try {
-	                fileService.saveFiles(validFiles, savedBoard);
-	            } catch (IOException e) {
-	                // 파일 업로드 실패해도 게시글은 등록됨
-	                e.printStackTrace();
-	            }
-	        }
+	    // 첨부파일은 백그라운드에서 저장 (진행 상태는 상세 화면에 표시)
+	    if (!validFiles.isEmpty()) {
+	        attachmentUploader.uploadAsync(savedBoard.getId(), validFiles);
 	    }
 	    
 	    return "redirect:/board/list";
 	}
 
 	@GetMapping("/board/edit/{id}")
-	public String editForm(@PathVariable Long id, Model model, HttpSession session) {
-	    User loginUser = (User) session.getAttribute("loginUser");
+	public String editForm(@PathVariable Long id, Model model, @RequestAttribute(name = "loginUser", required = false) LoginUser loginUser) {
 	    
 	    if (loginUser == null) {
 	        return "redirect:/user/login";
@@ -158,8 +259,7 @@ public class BoardController {
 	}
 
 	@PostMapping("/board/edit/{id}")
-	public String edit(@PathVariable Long id, Board board, HttpSession session) {
-		User loginUser = (User) session.getAttribute("loginUser");
+	public String edit(@PathVariable Long id, Board board, @RequestAttribute(name = "loginUser", required = false) LoginUser loginUser) {
 
 		if (loginUser == null) {
 			return "redirect:/user/login";
@@ -176,9 +276,8 @@ public class BoardController {
 	}
 
 	@GetMapping("/board/delete/{id}")
-	public String delete(@PathVariable Long id, HttpSession session) {
+	public String delete(@PathVariable Long id, @RequestAttribute(name = "loginUser", required = false) LoginUser loginUser) {
 
-		User loginUser = (User) session.getAttribute("loginUser");
 		Board board = boardService.findById(id);
 		if (loginUser == null) {
 			return "redirect:/user/login";
@@ -193,8 +292,7 @@ public class BoardController {
 	}
 
 	@PostMapping("/board/{id}/like")
-	public String toggleLike(@PathVariable Long id, HttpSession session) {
-		User loginUser = (User)session.getAttribute("loginUser");
+	public String toggleLike(@PathVariable Long id, @RequestAttribute(name = "loginUser", required = false) LoginUser loginUser) {
 		
 		if(loginUser == null) {
 			return "redirect:/user/login";
@@ -203,29 +301,4 @@ public class BoardController {
 		boardLikeService.toggleLike(id, loginUser.getId());
 		return "redirect:/board/detail/" + id;
 	}
-	
-	@GetMapping("/board/file/download/{fileId}")
-	public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId) throws IOException {
-	    BoardFile boardFile = fileService.getFilesByBoard(null).stream()
-	        .filter(f -> f.getId().equals(fileId))
-	        .findFirst()
-	        .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
-	    
-	    Path filePath = Paths.get(boardFile.getFilePath());
-	    Resource resource = new UrlResource(filePath.toUri());
-	    
-	    String contentType = Files.probeContentType(filePath);
-	    if (contentType == null) {
-	        contentType = "application/octet-stream";
-	    }
-	    
-	    String encodedFileName = URLEncoder.encode(boardFile.getOriginalFileName(), StandardCharsets.UTF_8)
-	        .replaceAll("\\+", "%20");
-	    
-	    return ResponseEntity.ok()
-	        .contentType(MediaType.parseMediaType(contentType))
-	        .header(HttpHeaders.CONTENT_DISPOSITION, 
-	                "attachment; filename=\"" + encodedFileName + "\"")
-	        .body(resource);
-	}
 }
\ No newline at end of file
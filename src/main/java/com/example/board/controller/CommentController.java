@@ -1,41 +1,61 @@
 package com.example.board.controller;
 
+import com.example.board.auth.LoginUser;
+import com.example.board.dto.CommentView;
+import com.example.board.dto.CursorPage;
 import com.example.board.entity.Comment;
-import com.example.board.entity.User;
 import com.example.board.service.CommentService;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 @Controller
 @RequiredArgsConstructor
 public class CommentController {
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final CommentService commentService;
 
-	@PostMapping("/comment/write")
-	public String write(@RequestParam Long boardId, @RequestParam String content, HttpSession session) {
+	// 댓글 더보기 (JSON): 상세 화면의 첫 페이지 다음부터 cursor로 이어서 읽음
+	@GetMapping("/board/{boardId}/comments")
+	@ResponseBody
+	public CursorPage<CommentView> comments(@PathVariable Long boardId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "${board.comment.page-size:50}") int size) {
+		return commentService.findPage(boardId, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+	}
 
-		User loginUser = (User) session.getAttribute("loginUser");
+	// 특정 댓글의 답글 묶음 (JSON)
+	@GetMapping("/comment/{id}/replies")
+	@ResponseBody
+	public CursorPage<CommentView> replies(@PathVariable Long id,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "${board.comment.page-size:50}") int size) {
+		return commentService.findReplies(id, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+	}
+
+	@PostMapping("/comment/write")
+	public String write(@RequestParam Long boardId, @RequestParam(required = false) Long parentId,
+			@RequestParam String content, @RequestAttribute(name = "loginUser", required = false) LoginUser loginUser) {
 
 		if (loginUser == null) {
 			return "redirect:/user/login";
 		}
 
-		commentService.save(boardId, loginUser.getName(), content);
+		commentService.save(boardId, parentId, loginUser.getName(), content);
 
 		return "redirect:/board/detail/" + boardId;
 	}
 
 	@GetMapping("/comment/delete/{id}")
-	public String delete(@PathVariable Long id, @RequestParam Long boardId, HttpSession session) {
-
-		User loginUser = (User) session.getAttribute("loginUser");
+	public String delete(@PathVariable Long id, @RequestParam Long boardId, @RequestAttribute(name = "loginUser", required = false) LoginUser loginUser) {
 
 		if (loginUser == null) {
 			return "redirect:/user/login";
@@ -43,7 +63,7 @@ public class CommentController {
 
 		Comment comment = commentService.findById(id);
 
-		if (!loginUser.getName().equals(comment.getWriter())) {
+		if (comment.isDeleted() || !loginUser.getName().equals(comment.getWriter())) {
 			throw new RuntimeException("본인이 작성한 댓글만 삭제할 수 있습니다.");
 		}
 
@@ -0,0 +1,196 @@
+package com.example.board.controller;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.board.entity.BoardFile;
+import com.example.board.service.FileService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@Controller
+@RequiredArgsConstructor
+public class FileController {
+	// Tomcat NIO 커넥터의 sendfile 요청 속성
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private final FileService fileService;
+
+	// 이 크기 이상이면 Tomcat sendfile로 커널에서 바로 전송
+	@Value("${board.file.sendfile-threshold:49152}")
+	private long sendfileThreshold;
+
+	// 첨부파일 다운로드: Range(이어받기), ETag/Last-Modified(조건부 요청) 지원
+	@GetMapping("/board/file/download/{fileId}")
+	public void downloadFile(@PathVariable Long fileId, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		BoardFile boardFile = fileService.findById(fileId);
+
+		// 업로드된 파일은 바뀌지 않으므로 id/크기/업로드 시각으로 ETag를 만든다.
+		long length = boardFile.getFileSize();
+		long lastModified = boardFile.getUploadDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		String etag = "\"" + boardFile.getId() + "-" + length + "-" + Long.toHexString(lastModified) + "\"";
+
+		// If-None-Match / If-Modified-Since -> 304
+		ServletWebRequest webRequest = new ServletWebRequest(request, response);
+		if (webRequest.checkNotModified(etag, lastModified)) {
+			return;
+		}
+
+		long start = 0;
+		long end = length - 1;
+		String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+		if (rangeHeader != null && length > 0 && ifRangeMatches(request, etag, lastModified)) {
+			// 문법이 틀린 Range는 없는 것으로 보고 전체를 보냄 (RFC 9110 14.2)
+			// 여러 구간(multipart/byteranges)은 지원하지 않고 전체를 보냄
+			List<HttpRange> ranges = parseRanges(rangeHeader);
+			if (ranges.size() == 1) {
+				start = ranges.get(0).getRangeStart(length);
+				end = ranges.get(0).getRangeEnd(length);
+				// 문법은 맞지만 파일 범위를 벗어난 경우만 416
+				if (start >= length || start > end) {
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+					response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+					return;
+				}
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+			}
+		}
+		long count = end - start + 1;
+
+		String encodedFileName = URLEncoder.encode(boardFile.getOriginalFileName(), StandardCharsets.UTF_8)
+			.replaceAll("\\+", "%20");
+
+		response.setContentType(boardFile.getContentType() != null ? boardFile.getContentType() : "application/octet-stream");
+		response.setContentLengthLong(count);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		// 형식은 업로드 때 내용으로 판별한 값이므로 브라우저가 다시 추측하지 않도록
+		response.setHeader("X-Content-Type-Options", "nosniff");
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFileName + "\"");
+
+		if (!"GET".equals(request.getMethod()) || count == 0) {
+			return;
+		}
+
+		// 로컬 디스크의 큰 파일은 Tomcat sendfile (zero-copy)
+		// 작은 파일/원격 저장소는 응답 스트림으로 복사 (버퍼를 거치므로 zero-copy 아님)
+		Optional<Path> localPath = fileService.localPath(boardFile);
+		if (localPath.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+				&& count >= sendfileThreshold) {
+			request.setAttribute(SENDFILE_FILENAME, localPath.get().toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return;
+		}
+		fileService.transferTo(boardFile, start, count, Channels.newChannel(response.getOutputStream()));
+	}
+
+	// 이미지 썸네일 (목록/상세 미리보기용)
+	@GetMapping("/board/file/thumbnail/{fileId}")
+	public void thumbnail(@PathVariable Long fileId, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		BoardFile boardFile = fileService.findById(fileId);
+		serveDerivative(boardFile, boardFile.getThumbnailKey(), request, response);
+	}
+
+	// 이미지 웹용 축소본 (원본 대신 화면에 크게 보여줄 때)
+	@GetMapping("/board/file/web/{fileId}")
+	public void web(@PathVariable Long fileId, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		BoardFile boardFile = fileService.findById(fileId);
+		serveDerivative(boardFile, boardFile.getWebKey(), request, response);
+	}
+
+	private void serveDerivative(BoardFile boardFile, String key, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		if (!boardFile.isImage()) {
+			response.sendError(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+		// 아직 생성 전(또는 생성 실패)이면 원본을 화면에 바로 표시 (다운로드 URL은 attachment라서 img에 쓸 수 없음)
+		// 나중에 파생본으로 바뀌어야 하므로 매번 재검증하도록 함
+		if (key == null) {
+			serveOriginalInline(boardFile, request, response);
+			return;
+		}
+
+		// 한 번 만들어진 파생본은 바뀌지 않고, key가 내용 해시이므로 그대로 ETag로 사용
+		ServletWebRequest webRequest = new ServletWebRequest(request, response);
+		if (webRequest.checkNotModified("\"" + key + "\"")) {
+			return;
+		}
+
+		response.setContentType(boardFile.getDerivativeContentType());
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+		long length = fileService.blobLength(key);
+		if (length >= 0) {
+			response.setContentLengthLong(length);
+		}
+		if ("GET".equals(request.getMethod())) {
+			fileService.copyBlob(key, response.getOutputStream());
+		}
+	}
+
+	private void serveOriginalInline(BoardFile boardFile, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+		ServletWebRequest webRequest = new ServletWebRequest(request, response);
+		if (webRequest.checkNotModified("\"" + boardFile.getStorageKey() + "\"")) {
+			return;
+		}
+
+		// 형식은 업로드 때 내용으로 판별한 image/* 값
+		response.setContentType(boardFile.getContentType());
+		response.setHeader("X-Content-Type-Options", "nosniff");
+		response.setContentLengthLong(boardFile.getFileSize());
+		if ("GET".equals(request.getMethod())) {
+			fileService.copyBlob(boardFile.getStorageKey(), response.getOutputStream());
+		}
+	}
+
+	private List<HttpRange> parseRanges(String rangeHeader) {
+		try {
+			return HttpRange.parseRanges(rangeHeader);
+		} catch (IllegalArgumentException e) {
+			return List.of();
+		}
+	}
+
+	// If-Range가 없거나 현재 ETag/Last-Modified와 같을 때만 Range를 적용
+	private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange == null) {
+			return true;
+		}
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			return ifRange.equals(etag);
+		}
+		try {
+			return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+}
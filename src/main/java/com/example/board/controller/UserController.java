@@ -1,21 +1,34 @@
 package com.example.board.controller;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import com.example.board.auth.LoginTokenService;
+import com.example.board.auth.LoginUser;
 import com.example.board.entity.User;
+import com.example.board.service.LoginRateLimiter;
+import com.example.board.service.PasswordHasher;
 import com.example.board.service.UserService;
 
-import jakarta.servlet.http.HttpSession;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
 
 @Controller
 @RequiredArgsConstructor
 public class UserController {
 	private final UserService userService;
+	private final LoginTokenService loginTokenService;
+	private final LoginRateLimiter loginRateLimiter;
 
 	@GetMapping("/user/register")
 	public String registerForm() {
@@ -38,61 +51,82 @@ public class UserController {
 		return "user/login";
 	}
 
+	// 시도 횟수를 넘기면 사용자 조회/해시 계산 없이 429, 해시 스레드 풀이 가득 차면 503
+	// 해시 비교가 끝날 때까지 요청 스레드를 붙잡지 않도록 비동기로 응답
 	@PostMapping("/user/login")
-	public String login(@RequestParam String username, @RequestParam String password, HttpSession session) {
-		User user = userService.login(username, password);
-
-		if (user == null) {
-			return "redirect:/user/login";
+	public CompletableFuture<String> login(@RequestParam String username, @RequestParam String password,
+			HttpServletRequest request, HttpServletResponse response) {
+		String ip = request.getRemoteAddr();
+		if (!loginRateLimiter.tryAcquire(username, ip)) {
+			throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
 		}
 
-		session.setAttribute("loginUser", user);
-		return "redirect:/board/list";
+		return userService.login(username, password)
+				.thenApply(user -> {
+					if (user == null) {
+						return "redirect:/user/login";
+					}
+					loginRateLimiter.reset(username, ip);
+					// 세션 대신 서명된 로그인 토큰 쿠키 (id, 아이디, 이름만 담김)
+					loginTokenService.login(response, user);
+					return "redirect:/board/list";
+				})
+				.exceptionally(e -> {
+					if (PasswordHasher.isBusy(e)) {
+						throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, PasswordHasher.BUSY_MESSAGE, e);
+					}
+					throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+				});
 	}
 
 	@GetMapping("/user/logout")
-	public String logout(HttpSession session) {
-		session.invalidate();
+	public String logout(HttpServletRequest request, HttpServletResponse response) {
+		loginTokenService.logout(request, response);
 		return "redirect:/user/login";
 	}
 	
 	@GetMapping("/user/profile")
-	public String profileForm(HttpSession session, Model model) {
-		User loginUser = (User)session.getAttribute("loginUser");
+	public String profileForm(@RequestAttribute(name = "loginUser", required = false) LoginUser loginUser, Model model) {
 		
 		if(loginUser == null) {
 			return "redirect:/user/login";
 		} 
 		
 		
-		model.addAttribute("user", loginUser);
+		// 토큰에는 이메일 등이 없으므로 DB에서 조회
+		model.addAttribute("user", userService.findById(loginUser.getId()));
 		
 		return "user/profile";
 	}
 	
 	@PostMapping("/user/profile/update")
-	public String updateUserProfile(@RequestParam String name, @RequestParam String email, HttpSession session) {
-		User loginUser = (User)session.getAttribute("loginUser");
+	public String updateUserProfile(@RequestParam String name, @RequestParam String email,
+			@RequestAttribute(name = "loginUser", required = false) LoginUser loginUser, HttpServletResponse response) {
 			
 		if(loginUser == null) {
 			return "redirect:/user/login";
 		}
 		
 		User updatedUser = userService.updateProfile(loginUser.getId(), name, email);
-		session.setAttribute("loginUser", updatedUser);
+		// 토큰에 이름이 들어 있으므로 이전 토큰(다른 기기 포함)은 폐기하고 새로 발급
+		loginTokenService.revokeAll(updatedUser.getId());
+		loginTokenService.login(response, updatedUser);
 		
 		return "redirect:/user/profile";
 	}
 	
 	@PostMapping("/user/profile/change-password")
-	public String changePassword(@RequestParam String currentPassword, @RequestParam String newPassword, HttpSession session) {
-		User loginUser = (User)session.getAttribute("loginUser");
+	public String changePassword(@RequestParam String currentPassword, @RequestParam String newPassword,
+			@RequestAttribute(name = "loginUser", required = false) LoginUser loginUser, HttpServletResponse response) {
 		
 		if(loginUser == null) {
 			return "redirect:/user/login";
 		}
 		
 		if(userService.changePassword(loginUser.getId(), currentPassword, newPassword)) {
+			// 다른 기기의 로그인은 끊고 지금 기기만 새 토큰으로 유지
+			loginTokenService.revokeAll(loginUser.getId());
+			loginTokenService.login(response, userService.findById(loginUser.getId()));
 			return "redirect:/user/profile";
 		}
 		
@@ -100,15 +134,16 @@ public class UserController {
 	}
 	
 	@PostMapping("/user/profile/delete")
-	public String deleteUser(@RequestParam String password, HttpSession session) {
-		User loginUser = (User)session.getAttribute("loginUser");
+	public String deleteUser(@RequestParam String password,
+			@RequestAttribute(name = "loginUser", required = false) LoginUser loginUser, HttpServletResponse response) {
 				
 		if(loginUser == null) {
 			return "redirect:/user/login";
 		}
 		
 		if(userService.deleteAccount(loginUser.getId(), password)) {
-			session.invalidate();
+			loginTokenService.revokeAll(loginUser.getId());
+			loginTokenService.clearCookie(response);
 			return "redirect:/user/login";
 		} else {
 			return "redirect:/user/profile";
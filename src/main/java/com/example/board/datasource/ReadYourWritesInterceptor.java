@@ -0,0 +1,76 @@
+package com.example.board.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+
+// 자기가 쓴 직후에는 replica 복제 지연과 상관없이 자기 글이 보이도록
+// 쓰기가 있었던 사용자는 일정 시간 동안 읽기도 primary로 보낸다.
+// 서버 세션 대신 쓰기 시각을 담은 짧은 쿠키로 기록하므로 어느 서버로 가도 적용된다.
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+    static final String LAST_WRITE = "BOARD_LAST_WRITE";
+
+    private final Duration window;
+    private final long windowMillis;
+
+    public ReadYourWritesInterceptor(Duration window) {
+        this.window = window;
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Cookie cookie = WebUtils.getCookie(request, LAST_WRITE);
+        if (cookie != null && System.currentTimeMillis() - lastWrite(cookie) < windowMillis) {
+            ReplicaRouting.requirePrimary();
+        }
+        return true;
+    }
+
+    // redirect 응답이 나가기 전에 기록해야 바로 이어지는 요청에 적용됨
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (!ReplicaRouting.hasWritten()) {
+            return;
+        }
+        if (response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(LAST_WRITE, String.valueOf(System.currentTimeMillis()))
+                .path("/")
+                .maxAge(window)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    // 위조해도 읽기가 primary로 가는 것뿐이므로 서명하지 않음
+    private static long lastWrite(Cookie cookie) {
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRouting.clear();
+    }
+
+    // 비동기 응답(로그인 등)은 첫 처리 스레드에서 afterCompletion이 불리지 않으므로 여기서 지움
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRouting.clear();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.board.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// board.datasource.*: 읽기 전용 replica 목록과 read-your-writes 유지 시간
+@Getter
+@Setter
+@ConfigurationProperties("board.datasource")
+public class ReplicaProperties {
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        // 비어 있으면 spring.datasource.driver-class-name 사용
+        private String driverClassName;
+    }
+}
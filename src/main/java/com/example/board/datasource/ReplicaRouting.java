@@ -0,0 +1,50 @@
+package com.example.board.datasource;
+
+import java.util.function.Supplier;
+
+// 현재 스레드(요청)의 읽기 라우팅 상태
+// - primary 강제: 최근에 직접 쓴 사용자(read-your-writes)나 캐시를 채우는 조회
+// - 쓰기 여부: 이 요청에서 읽기/쓰기 트랜잭션이 primary를 사용했는지
+public final class ReplicaRouting {
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    // 이 요청에서 이미 썼다면 이후 읽기도 primary로
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null || WRITTEN.get() != null;
+    }
+
+    static void markWritten() {
+        WRITTEN.set(Boolean.TRUE);
+    }
+
+    public static boolean hasWritten() {
+        return WRITTEN.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+        WRITTEN.remove();
+    }
+
+    // 복제 지연 때문에 옛 값이 캐시에 오래 남지 않도록 캐시를 채우는 조회는 primary에서 읽는다.
+    // 연결은 트랜잭션의 첫 조회 때 정해지므로, 트랜잭션 안에서는 첫 조회 전에 불러야 primary로 간다.
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+}
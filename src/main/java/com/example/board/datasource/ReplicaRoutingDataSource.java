@@ -0,0 +1,90 @@
+package com.example.board.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 연결을 replica들에 돌아가며 분배 (primary가 필요하면 primary)
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+
+    private final int replicaCount;
+    private final AtomicInteger next = new AtomicInteger();
+    private final DataSource primary;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKey(i), replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        this.replicaCount = replicas.size();
+        this.primary = primary;
+    }
+
+    // @Transactional(readOnly = true)는 replica, 그 외는 primary로 보내는 DataSource
+    // 연결을 실제로 쓰는 시점(트랜잭션의 readOnly 설정이 끝난 뒤)에 고르도록 LazyConnectionDataSourceProxy로 감싼다.
+    public static DataSource create(DataSource primary, List<DataSource> replicas) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary));
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replicas));
+        return proxy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaCount == 0 || ReplicaRouting.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        return replicaKey(Math.floorMod(next.getAndIncrement(), replicaCount));
+    }
+
+    // replica에 연결할 수 없으면 primary로 대신 읽음
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            log.warn("replica 연결 실패, primary에서 읽습니다.", e);
+            return primary.getConnection();
+        }
+    }
+
+    private static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    // 읽기/쓰기 트랜잭션이 primary 연결을 가져가면 이 요청에서 썼다고 기록
+    // 요청 스레드에서만 기록한다 (ReadYourWritesInterceptor가 요청이 끝날 때 지움).
+    // 업로드/파생본/스케줄러 스레드는 지워 줄 곳이 없어서, 기록하면 그 스레드의 이후 작업이 계속 primary로 간다.
+    static class WriteTrackingDataSource extends DelegatingDataSource {
+
+        WriteTrackingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (RequestContextHolder.getRequestAttributes() != null
+                    && TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                ReplicaRouting.markWritten();
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.board.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+// open-in-view로 요청 내내 열려 있는 EntityManager는 처음 받은 연결을 요청이 끝날 때까지 쥐고 있어서,
+// 앞선 읽기 트랜잭션이 받은 replica 연결로 이어지는 쓰기 트랜잭션까지 실행된다.
+// 트랜잭션을 시작할 때 쥐고 있던 연결을 돌려주어 이번 트랜잭션의 readOnly 설정으로 다시 라우팅한다.
+public class ReplicaRoutingJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        LogicalConnectionImplementor connection = getSession(entityManager).getJdbcCoordinator().getLogicalConnection();
+        if (connection.isPhysicallyConnected()) {
+            connection.manualDisconnect();
+        }
+        return super.beginTransaction(entityManager, definition);
+    }
+}
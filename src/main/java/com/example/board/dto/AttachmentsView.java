@@ -0,0 +1,15 @@
+package com.example.board.dto;
+
+import com.example.board.entity.AttachmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 게시글의 첨부파일 메타데이터 (백그라운드 저장이 끝났는지 확인하는 용도)
+@Getter
+@AllArgsConstructor
+public class AttachmentsView {
+    private final AttachmentStatus attachmentStatus;
+    private final List<FileView> files;
+}
@@ -0,0 +1,63 @@
+package com.example.board.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 목록 커서: "id X보다 오래된 글" 또는 "id X보다 최신 글"
+// 클라이언트에는 Base64 문자열로만 노출 (형식이 바뀌어도 URL은 그대로 쓸 수 있게)
+@Getter
+public class BoardCursor {
+    private static final BoardCursor FIRST = new BoardCursor(Long.MAX_VALUE, true);
+
+    private final long id;
+    private final boolean older;
+
+    private BoardCursor(long id, boolean older) {
+        this.id = id;
+        this.older = older;
+    }
+
+    public static BoardCursor first() {
+        return FIRST;
+    }
+
+    public static BoardCursor olderThan(long id) {
+        return new BoardCursor(id, true);
+    }
+
+    public static BoardCursor newerThan(long id) {
+        return new BoardCursor(id, false);
+    }
+
+    public boolean isFirst() {
+        return this == FIRST;
+    }
+
+    // 잘못된 커서는 첫 페이지로 처리
+    public static BoardCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            long id = Long.parseLong(decoded.substring(1));
+            switch (decoded.charAt(0)) {
+                case 'o':
+                    return olderThan(id);
+                case 'n':
+                    return newerThan(id);
+                default:
+                    return FIRST;
+            }
+        } catch (RuntimeException e) {
+            return FIRST;
+        }
+    }
+
+    public String encode() {
+        String raw = (older ? "o" : "n") + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
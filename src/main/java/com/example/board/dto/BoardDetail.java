@@ -0,0 +1,30 @@
+package com.example.board.dto;
+
+import com.example.board.entity.AttachmentStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 상세 화면 한 번에 필요한 데이터 (게시글 + 댓글 첫 페이지 + 첨부파일 + 좋아요)
+@Getter
+@Builder(toBuilder = true)
+public class BoardDetail implements Serializable {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String writer;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime modifiedDate;
+    private final long viewCount;
+    private final long likeCount;
+    private final boolean liked;
+    private final List<CommentView> comments;
+    private final long commentCount;
+    // 댓글 더보기 커서 (댓글이 첫 페이지에 다 들어가면 null)
+    private final String nextCommentCursor;
+    private final List<FileView> files;
+    private final AttachmentStatus attachmentStatus;
+}
@@ -0,0 +1,29 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// 목록 화면용 게시글 요약 (content 컬럼을 읽지 않는 읽기 전용 projection)
+// 생성자 파라미터 이름으로 select 컬럼이 정해지므로 필드 이름은 Board 엔티티와 같아야 한다.
+@Getter
+@AllArgsConstructor
+public class BoardSummary implements Serializable {
+    private final Long id;
+    private final String title;
+    private final String writer;
+    private final LocalDateTime createdDate;
+    private final Integer viewCount;
+
+    // 아직 DB에 반영되지 않은 조회수를 더한 사본 (캐시에 든 객체는 바꾸지 않음)
+    public BoardSummary withPendingViews(long pending) {
+        return pending == 0 ? this : new BoardSummary(id, title, writer, createdDate, viewCount + (int) pending);
+    }
+
+    // 조회수만 바꾼 사본 (캐시에 든 목록은 조회수가 낡았으므로 보여줄 때 바꿔 끼움)
+    public BoardSummary withViewCount(Long count) {
+        return count == null || count == viewCount.longValue() ? this : new BoardSummary(id, title, writer, createdDate, count.intValue());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.board.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 댓글 커서: "path가 이 댓글보다 뒤인 댓글" (path 순서 = 트리 화면 순서)
+// BoardCursor처럼 클라이언트에는 Base64 문자열로만 노출
+public final class CommentCursor {
+
+    private CommentCursor() {
+    }
+
+    public static String after(CommentView comment) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(comment.getPath().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 없거나 잘못된 커서는 "" (처음부터)
+    public static String parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return "";
+        }
+        try {
+            String path = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return path.chars().allMatch(Character::isLetterOrDigit) ? path : "";
+        } catch (RuntimeException e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.board.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 댓글 작성 요청 (JSON), parentId가 있으면 그 댓글의 답글
+@Getter
+@Setter
+@NoArgsConstructor
+public class CommentRequest {
+    private Long parentId;
+    private String content;
+}
@@ -0,0 +1,13 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 작성/삭제 결과: 바뀐 댓글 하나와 게시글의 댓글 수
+// 삭제로 행이 지워졌으면 comment는 null, 답글이 있어 "삭제된 댓글"로 남으면 그 상태의 댓글
+@Getter
+@AllArgsConstructor
+public class CommentResult {
+    private final CommentView comment;
+    private final long commentCount;
+}
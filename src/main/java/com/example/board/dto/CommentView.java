@@ -0,0 +1,40 @@
+package com.example.board.dto;
+
+import com.example.board.entity.Comment;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// 화면 표시용 댓글 (읽기 전용)
+// path 순서로 나열하면 답글이 부모 바로 아래에 오므로 depth만큼 들여쓰면 트리가 된다.
+@Getter
+public class CommentView implements Serializable {
+    private final Long id;
+    private final String writer;
+    private final String content;
+    private final LocalDateTime createdDate;
+    private final String path;
+    private final int replyCount;
+    private final boolean deleted;
+
+    public CommentView(Long id, String writer, String content, LocalDateTime createdDate,
+                       String path, Integer replyCount, boolean deleted) {
+        this.id = id;
+        this.writer = writer;
+        this.content = content;
+        this.createdDate = createdDate;
+        this.path = path;
+        this.replyCount = replyCount;
+        this.deleted = deleted;
+    }
+
+    public int getDepth() {
+        return Comment.depth(path);
+    }
+
+    public static CommentView from(Comment comment) {
+        return new CommentView(comment.getId(), comment.getWriter(), comment.getContent(), comment.getCreatedDate(),
+                comment.getPath(), comment.getReplyCount(), comment.isDeleted());
+    }
+}
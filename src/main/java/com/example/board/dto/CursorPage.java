@@ -0,0 +1,25 @@
+package com.example.board.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+// 커서(keyset) 기반 목록 한 페이지 (댓글 첫 페이지는 캐시에 들어가므로 Serializable)
+@Getter
+@RequiredArgsConstructor
+public class CursorPage<T> implements Serializable {
+    private final List<T> content;
+    private final String nextCursor;      // 다음(더 오래된) 페이지, 없으면 null
+    private final String previousCursor;  // 이전(더 최신) 페이지, 없으면 null
+    private final Long totalElements;     // 전체 개수 (근사값/캐시 값, 모르면 null)
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.board.dto;
+
+import com.example.board.entity.BoardFile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+// 화면 표시용 첨부파일 메타데이터 (읽기 전용)
+@Getter
+@AllArgsConstructor
+public class FileView implements Serializable {
+    private final Long id;
+    private final String originalFileName;
+    private final Long fileSize;
+    private final boolean image;
+
+    public static FileView from(BoardFile file) {
+        return new FileView(file.getId(), file.getOriginalFileName(), file.getFileSize(), file.isImage());
+    }
+}
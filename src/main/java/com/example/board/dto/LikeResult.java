@@ -0,0 +1,12 @@
+package com.example.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좋아요 토글 결과 (화면을 다시 그리지 않고 버튼과 숫자만 바꿈)
+@Getter
+@AllArgsConstructor
+public class LikeResult {
+    private final boolean liked;
+    private final long likeCount;
+}
@@ -0,0 +1,9 @@
+package com.example.board.entity;
+
+// 게시글 첨부파일 업로드 처리 상태
+public enum AttachmentStatus {
+	NONE,        // 첨부파일 없음
+	PROCESSING,  // 백그라운드에서 저장 중
+	READY,       // 모두 저장됨
+	FAILED       // 일부 또는 전체 실패
+}
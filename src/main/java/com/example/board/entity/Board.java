@@ -4,17 +4,27 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 인덱스는 db/migration의 스키마와 같게 유지
+@Table(indexes = {
+        @Index(name = "idx_board_writer", columnList = "writer"),
+        @Index(name = "idx_board_created_date", columnList = "created_date"),
+        @Index(name = "idx_board_attachment_status", columnList = "attachment_status, created_date")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class Board {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // id_generator 테이블에서 50개씩 미리 받아 씀 (IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있음)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_id")
+    @TableGenerator(name = "board_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "board", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -32,9 +42,27 @@ public class Board {
     @Column
     private LocalDateTime modifiedDate;
 
-    @Column(nullable = false)
+    // ViewCountAggregator가 UPDATE ... SET view_count = view_count + ? 로만 갱신
+    @Column(nullable = false, updatable = false)
     private Integer viewCount = 0;
+
+    // BoardLikeService.toggleLike가 UPDATE ... SET like_count = like_count ± 1 로만 갱신
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Integer likeCount = 0;
     
+    // 댓글 수 (CommentService가 댓글 저장/삭제와 같은 트랜잭션에서 UPDATE 문으로 증감)
+    // 상세 화면이 댓글을 전부 세지 않고 바로 보여 주기 위함
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Integer commentCount = 0;
+
+    // AttachmentUploader가 UPDATE 문으로만 갱신 (백그라운드 처리 결과를 덮어쓰지 않도록)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'NONE'")
+    @Column(nullable = false, updatable = false, length = 20)
+    private AttachmentStatus attachmentStatus = AttachmentStatus.NONE;
+
     @OneToMany(mappedBy = "board",
             cascade = CascadeType.REMOVE,
             orphanRemoval = true,
@@ -49,6 +77,7 @@ public class Board {
     public void prePersist() {
         this.createdDate = LocalDateTime.now();
         this.viewCount = 0;
+        this.likeCount = 0;
     }
 
     @PreUpdate
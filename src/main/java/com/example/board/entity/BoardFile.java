@@ -2,28 +2,40 @@ package com.example.board.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "board_file")
+@Table(name = "board_file", indexes = {
+		@Index(name = "idx_board_file_board", columnList = "board_id"),
+		@Index(name = "idx_board_file_storage_key", columnList = "storage_key"),
+		@Index(name = "idx_board_file_thumbnail_key", columnList = "thumbnail_key"),
+		@Index(name = "idx_board_file_web_key", columnList = "web_key")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class BoardFile {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// Board와 같이 id_generator 테이블의 50개 단위 블록 사용
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "board_file_id")
+	@TableGenerator(name = "board_file_id", table = "id_generator", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "board_file", allocationSize = 50)
 	private Long id;
 	
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -33,18 +45,41 @@ public class BoardFile {
 	@Column(nullable = false, length = 200)
 	private String originalFileName;
 	
-	@Column(nullable = false, length = 200)
-	private String savedFileName;
-
-	@Column(nullable = false, length = 500)
-	private String filePath;
+	// 저장소(StorageBackend)의 blob key = 내용의 SHA-256
+	// 같은 내용의 첨부파일은 같은 key를 공유하고, 이 key를 참조하는 행이 없어질 때 blob을 지운다.
+	@Column(nullable = false, length = 64)
+	private String storageKey;
 	
 	@Column(nullable = false)
 	private Long fileSize;
 	
+	// 업로드 시점에 결정 (다운로드마다 probeContentType 하지 않도록)
+	@Column(length = 100)
+	private String contentType;
+	
 	@Column(nullable = false)
 	private LocalDateTime uploadDate;
 	
+	// 이미지 파생본 (썸네일 / 웹용 축소본) blob key, 백그라운드 작업이 끝나기 전이나 이미지가 아니면 null
+	@Column(length = 64)
+	private String thumbnailKey;
+	
+	@Column(length = 64)
+	private String webKey;
+	
+	// 파생본의 Content-Type (image/jpeg 또는 투명도가 있으면 image/png)
+	@Column(length = 100)
+	private String derivativeContentType;
+	
+	// 읽을 수 없거나 너무 큰 이미지라 파생본을 만들지 않기로 한 파일 (다시 시도하지 않음)
+	@ColumnDefault("false")
+	@Column(nullable = false)
+	private boolean derivativeSkipped;
+	
+	public boolean isImage() {
+		return contentType != null && contentType.startsWith("image/");
+	}
+	
 	@PrePersist
 	public void prePersist() {
 		this.uploadDate = LocalDateTime.now();
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -18,12 +19,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "board_like", 
-	uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "board_id" }))
+@Table(name = "board_like",
+	uniqueConstraints = @UniqueConstraint(name = "uk_board_like_user_board", columnNames = { "user_id", "board_id" }),
+	indexes = @Index(name = "idx_board_like_board_user", columnList = "board_id, user_id"))
 @Getter @Setter
 @NoArgsConstructor
 public class BoardLike {
 	@Id
+	// 엔티티로 저장하지 않고 INSERT IGNORE(BoardLikeRepository.insertIgnore)로만 넣으므로 AUTO_INCREMENT 유지
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 	
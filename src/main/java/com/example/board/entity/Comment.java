@@ -4,15 +4,36 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
+// 게시글의 댓글 트리를 path 순서(= 화면 순서)로 읽음: 전체든 특정 댓글의 답글 묶음이든 인덱스 범위 하나
+@Table(indexes = @Index(name = "idx_comment_board_path", columnList = "board_id, path"))
 @Getter @Setter
 @NoArgsConstructor
 public class Comment {
+    // path는 조상부터 자신까지 (작성 시각, id) 구간을 이어 붙인 값
+    // 구간 = 작성 시각(created_date, 마이크로초) 36진수 10자리 + id 36진수 8자리
+    // 문자열 순서가 곧 "부모 다음에 자식들" 순서이고, 자식 묶음은 부모 path로 시작하는 범위가 된다.
+    // 형제끼리는 (created_date, id) 순서: id는 서버마다 50개 단위 블록으로 받으므로
+    // 여러 서버가 함께 쓰면 id 순서가 작성 순서와 달라져 id만으로는 정렬할 수 없다.
+    private static final int TIME_LENGTH = 10;
+    private static final int ID_LENGTH = 8;
+    public static final int PATH_SEGMENT_LENGTH = TIME_LENGTH + ID_LENGTH;
+    // 이보다 깊은 답글은 같은 깊이에 붙임 (path 길이 제한)
+    public static final int MAX_DEPTH = 8;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Board와 같이 id_generator 테이블의 50개 단위 블록 사용
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "comment", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -28,8 +49,64 @@ public class Comment {
     @JoinColumn(name = "board_id")
     private Board board;
 
+    @Column(nullable = false, updatable = false, length = PATH_SEGMENT_LENGTH * (MAX_DEPTH + 1))
+    private String path;
+
+    // 하위 답글 수 (자식의 자식까지), CommentService가 UPDATE 문으로만 증감
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Integer replyCount = 0;
+
+    // 답글이 달린 댓글을 지우면 행은 남기고 내용만 지움 (답글 트리 유지)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted;
+
+    // 답글이면 부모의 path (저장할 때 path 계산용)
+    @Transient
+    private String parentPath;
+
+    // id는 저장 전에 id_generator에서 받아 오므로 여기서 path를 정할 수 있음
     @PrePersist
     public void prePersist() {
-        this.createdDate = LocalDateTime.now();
+        // DB(DATETIME(6))에 저장되는 값과 path의 시각이 같도록 마이크로초까지만
+        this.createdDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        this.path = (parentPath != null ? parentPath : "") + segment(createdDate, id);
+    }
+
+    public int getDepth() {
+        return depth(path);
+    }
+
+    public static int depth(String path) {
+        return path.length() / PATH_SEGMENT_LENGTH - 1;
+    }
+
+    // 부모 path (최상위 댓글이면 null)
+    public static String parentPath(String path) {
+        return path.length() > PATH_SEGMENT_LENGTH ? path.substring(0, path.length() - PATH_SEGMENT_LENGTH) : null;
+    }
+
+    // 조상들의 path (가까운 부모부터)
+    public static List<String> ancestorPaths(String path) {
+        List<String> ancestors = new ArrayList<>();
+        for (String parent = parentPath(path); parent != null; parent = parentPath(parent)) {
+            ancestors.add(parent);
+        }
+        return ancestors;
+    }
+
+    // created_date 값 그대로의 순서를 쓰도록 시간대 변환 없이 UTC로 간주해서 계산
+    public static String segment(LocalDateTime createdDate, long id) {
+        long micros = createdDate.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdDate.getNano() / 1_000;
+        return base36(micros, TIME_LENGTH, "댓글 작성 시각이") + base36(id, ID_LENGTH, "댓글 id가");
+    }
+
+    private static String base36(long value, int length, String name) {
+        String base36 = Long.toString(value, 36);
+        if (base36.length() > length) {
+            throw new IllegalStateException(name + " path 범위를 넘었습니다: " + value);
+        }
+        return "0".repeat(length - base36.length()) + base36;
     }
-}
\ No newline at end of file
+}
@@ -9,23 +9,29 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name="users")
+@Table(name="users", uniqueConstraints = @UniqueConstraint(name = "uk_users_username", columnNames = "username"))
 @Getter @Setter
 @NoArgsConstructor
 public class User {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// Board와 같이 id_generator 테이블의 50개 단위 블록 사용
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+	@TableGenerator(name = "users_id", table = "id_generator", pkColumnName = "sequence_name",
+			valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
 	private Long id;
 	
-	@Column(nullable = false, unique = true, length = 20)
+	@Column(nullable = false, length = 20)
 	private String username;
 	
-	@Column(nullable = false, length = 100)
+	// {방식}해시 형식 (bcrypt 약 68자, argon2 약 105자)
+	@Column(nullable = false, length = 255)
 	private String password;
 	
 	@Column(nullable = false, length = 20)
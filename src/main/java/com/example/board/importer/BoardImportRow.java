@@ -0,0 +1,28 @@
+package com.example.board.importer;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 가져오기 파일(JSON Lines)의 한 줄 = 게시글 하나와 그 댓글들
+// {"title": "...", "content": "...", "writer": "...", "comments": [{"writer": "...", "content": "..."}]}
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardImportRow {
+    private String title;
+    private String content;
+    private String writer;
+    private List<CommentRow> comments = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CommentRow {
+        private String writer;
+        private String content;
+    }
+}
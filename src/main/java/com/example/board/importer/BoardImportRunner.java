@@ -0,0 +1,43 @@
+package com.example.board.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// 명령행 가져오기: 파일을 가져온 뒤 애플리케이션을 종료한다.
+// java -jar board.jar --server.port=0 --board.import.file=boards.jsonl
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.import.file")
+public class BoardImportRunner implements ApplicationRunner {
+    private final BoardImportService boardImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${board.import.file}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+            boardImportService.importJsonLines(reader);
+        } catch (Exception e) {
+            log.error("게시글 가져오기 실패: {}", file, e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
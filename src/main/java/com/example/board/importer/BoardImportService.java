@@ -0,0 +1,148 @@
+package com.example.board.importer;
+
+import com.example.board.cache.BoardCache;
+import com.example.board.entity.Board;
+import com.example.board.entity.Comment;
+import com.example.board.repository.BoardRepository;
+import com.example.board.repository.CommentRepository;
+import com.example.board.search.BoardSearchIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 게시글 + 댓글 대량 가져오기
+// chunk-size개 게시글씩 한 트랜잭션으로 저장하고, 커밋된 chunk는 검색 인덱스에 바로 반영한다.
+// id를 id_generator에서 미리 받아 두므로 INSERT가 hibernate.jdbc.batch_size 단위 배치로 나간다.
+@Slf4j
+@Component
+public class BoardImportService {
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardCache boardCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public BoardImportService(BoardRepository boardRepository,
+                              CommentRepository commentRepository,
+                              BoardSearchIndex boardSearchIndex,
+                              BoardCache boardCache,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${board.import.chunk-size:1000}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardCache = boardCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    // 한 줄에 게시글 하나 (빈 줄은 건너뜀)
+    // 형식이 잘못된 줄이 있으면 그 앞 chunk까지만 저장되고 예외가 난다.
+    public ImportResult importJsonLines(BufferedReader reader) throws IOException {
+        long start = System.currentTimeMillis();
+        long boardCount = 0;
+        long commentCount = 0;
+        List<Board> boards = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Board board = toBoard(parse(line, lineNumber), comments);
+                boards.add(board);
+
+                if (boards.size() == chunkSize) {
+                    saveChunk(boards, comments);
+                    boardCount += boards.size();
+                    commentCount += comments.size();
+                    boards = new ArrayList<>();
+                    comments = new ArrayList<>();
+                }
+            }
+            if (!boards.isEmpty()) {
+                saveChunk(boards, comments);
+                boardCount += boards.size();
+                commentCount += comments.size();
+            }
+        } finally {
+            if (boardCount > 0) {
+                boardCache.evictListPages();
+            }
+        }
+
+        ImportResult result = new ImportResult(boardCount, commentCount, System.currentTimeMillis() - start);
+        log.info("게시글 가져오기 완료: 게시글 {}건, 댓글 {}건, {}ms ({} rows/s)",
+                result.boards(), result.comments(), result.millis(), result.rowsPerSecond());
+        return result;
+    }
+
+    private BoardImportRow parse(String line, int lineNumber) {
+        BoardImportRow row;
+        try {
+            row = objectMapper.readValue(line, BoardImportRow.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄을 읽을 수 없습니다.", e);
+        }
+        if (isBlank(row.getTitle()) || isBlank(row.getContent()) || isBlank(row.getWriter())) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄: 제목, 내용, 작성자는 필수입니다.");
+        }
+        for (BoardImportRow.CommentRow comment : row.getComments()) {
+            if (isBlank(comment.getWriter()) || isBlank(comment.getContent())) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 댓글 작성자와 내용은 필수입니다.");
+            }
+        }
+        return row;
+    }
+
+    private Board toBoard(BoardImportRow row, List<Comment> comments) {
+        Board board = new Board();
+        board.setTitle(row.getTitle());
+        board.setContent(row.getContent());
+        board.setWriter(row.getWriter());
+        board.setCommentCount(row.getComments().size());
+        for (BoardImportRow.CommentRow commentRow : row.getComments()) {
+            Comment comment = new Comment();
+            comment.setWriter(commentRow.getWriter());
+            comment.setContent(commentRow.getContent());
+            comment.setBoard(board);
+            comments.add(comment);
+        }
+        return board;
+    }
+
+    private void saveChunk(List<Board> boards, List<Comment> comments) {
+        transactionTemplate.executeWithoutResult(status -> {
+            boardRepository.saveAll(boards);
+            commentRepository.saveAll(comments);
+        });
+        boardSearchIndex.indexAll(boards);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    public record ImportResult(long boards, long comments, long millis) {
+        public long rowsPerSecond() {
+            return (boards + comments) * 1000 / Math.max(1, millis);
+        }
+    }
+}
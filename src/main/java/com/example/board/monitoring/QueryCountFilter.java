@@ -0,0 +1,71 @@
+package com.example.board.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+// 요청마다 실행된 SQL 문 수 기록
+// - 지표: board.http.queries (method, uri 패턴별 분포) -> /actuator/metrics/board.http.queries
+// - 요청 속성 QUERY_COUNT (테스트에서 쿼리 수 예산 확인용)
+// - 개발 환경: X-Query-Count 응답 헤더 (헤더를 마지막에 붙이려고 응답 본문을 버퍼링함)
+// - 기준 이상이면 경고 로그 (N+1 의심)
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String QUERY_COUNT = QueryCountFilter.class.getName() + ".QUERY_COUNT";
+    public static final String HEADER = "X-Query-Count";
+    private static final String FILE_PATH = "/board/file/";
+
+    private final MeterRegistry registry;
+    private final boolean exposeHeader;
+    private final int warnThreshold;
+
+    public QueryCountFilter(MeterRegistry registry, boolean exposeHeader, int warnThreshold) {
+        this.registry = registry;
+        this.exposeHeader = exposeHeader;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // 첨부파일 전송(sendfile, Range 요청)은 버퍼링하면 안 되므로 헤더 없이 보냄
+        boolean buffer = exposeHeader && !request.getRequestURI().startsWith(request.getContextPath() + FILE_PATH);
+        ContentCachingResponseWrapper buffered = buffer ? new ContentCachingResponseWrapper(response) : null;
+        QueryCounter.start();
+        int count;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            count = QueryCounter.stop();
+        }
+
+        request.setAttribute(QUERY_COUNT, count);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("board.http.queries")
+                .description("요청 하나에서 실행된 SQL 문 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(count);
+        if (count >= warnThreshold) {
+            log.warn("요청 하나에서 SQL {}개 실행 (N+1 확인 필요): {} {}", count, request.getMethod(), request.getRequestURI());
+        }
+
+        if (buffered != null) {
+            if (!buffered.isCommitted()) {
+                buffered.setHeader(HEADER, String.valueOf(count));
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.board.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 실행하려고 준비하는 SQL 문 수를 스레드(= HTTP 요청)별로 센다.
+// start()~stop() 사이에만 세며, JDBC 배치는 문장 하나로 센다.
+// JdbcTemplate으로 직접 실행하는 SQL(조회수 반영 등)과 다른 스레드(백그라운드 업로드 등)의 SQL은 포함되지 않는다.
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // 지금까지 센 수를 돌려주고 세기를 끝냄
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
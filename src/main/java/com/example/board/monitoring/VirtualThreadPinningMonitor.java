@@ -0,0 +1,75 @@
+package com.example.board.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+// 가상 스레드 모드에서 캐리어 스레드 고정(pinning) 감시
+// synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어(플랫폼) 스레드를 붙잡고 있게 되어
+// 캐리어 수(=CPU 수)만큼만 동시에 처리된다. 기준 시간 이상 고정된 JFR jdk.VirtualThreadPinned 이벤트를 받아서
+// - 지표: board.virtual-threads.pinned (고정된 시간 분포)
+// - 경고 로그 + 스택 (어느 코드가 고정시키는지)
+// JVM 옵션 -Djdk.tracePinnedThreads=short 로도 확인할 수 있지만 운영 중에는 이쪽이 가볍다.
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 12;
+
+    private final Timer pinned;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry,
+                                       @Value("${board.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.pinned = Timer.builder("board.virtual-threads.pinned").register(registry);
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        log.warn("가상 스레드 고정 {}ms ({})\n{}", event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "?", stack(event));
+    }
+
+    private static String stack(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(VirtualThreadPinningMonitor::frame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(" + frame.getLineNumber() + ")";
+    }
+}
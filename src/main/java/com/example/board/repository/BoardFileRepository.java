@@ -1,8 +1,14 @@
 package com.example.board.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.board.entity.Board;
 import com.example.board.entity.BoardFile;
@@ -12,4 +18,39 @@ public interface BoardFileRepository extends JpaRepository<BoardFile, Long>{
 	List<BoardFile> findByBoard(Board board);
 	
 	void deleteByBoard(Board board);
+	
+	// blob 참조 수 (원본 + 파생본)
+	// OR 조건 하나로 묶으면 인덱스를 못 타므로 key 컬럼마다 따로 세서 더함 (같은 행이 두 번 세어져도 0인지만 중요)
+	@Query("select (select count(f) from BoardFile f where f.storageKey = :key)"
+			+ " + (select count(f) from BoardFile f where f.thumbnailKey = :key)"
+			+ " + (select count(f) from BoardFile f where f.webKey = :key)")
+	long countReferences(@Param("key") String key);
+	
+	// 게시글에 달린 blob key (원본, 썸네일, 웹용 순서, 파생본은 null일 수 있음)
+	@Query("select f.storageKey, f.thumbnailKey, f.webKey from BoardFile f where f.board.id = :boardId")
+	List<Object[]> findBlobKeysByBoardId(@Param("boardId") Long boardId);
+	
+	// 파생본이 아직 없는 이미지 첨부파일 (만들 수 없다고 기록된 파일은 제외)
+	@Query("select f from BoardFile f where f.board.id = :boardId and f.contentType like 'image/%' and f.thumbnailKey is null "
+			+ "and f.derivativeSkipped = false")
+	List<BoardFile> findImagesWithoutDerivatives(@Param("boardId") Long boardId);
+	
+	// 파생본 작업이 대기열에서 밀려났거나 서버 재시작으로 사라진 이미지 (최근 업로드만, id 순)
+	@Query("select f from BoardFile f where f.contentType like 'image/%' and f.thumbnailKey is null "
+			+ "and f.derivativeSkipped = false and f.uploadDate > :since and f.id > :afterId order by f.id")
+	List<BoardFile> findPendingDerivatives(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Limit limit);
+	
+	// 백그라운드 작업에서 호출되므로 자체 트랜잭션으로 실행
+	@Transactional
+	@Modifying
+	@Query("update BoardFile f set f.thumbnailKey = :thumbnailKey, f.webKey = :webKey, "
+			+ "f.derivativeContentType = :contentType where f.id = :id")
+	int updateDerivatives(@Param("id") Long id, @Param("thumbnailKey") String thumbnailKey,
+			@Param("webKey") String webKey, @Param("contentType") String contentType);
+	
+	// 백그라운드 작업에서 호출되므로 자체 트랜잭션으로 실행
+	@Transactional
+	@Modifying
+	@Query("update BoardFile f set f.derivativeSkipped = true where f.id = :id")
+	int markDerivativesSkipped(@Param("id") Long id);
 }
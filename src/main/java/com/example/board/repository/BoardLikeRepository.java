@@ -1,23 +1,36 @@
 package com.example.board.repository;
 
-import java.util.Optional;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.board.entity.Board;
 import com.example.board.entity.BoardLike;
-import com.example.board.entity.User;
 
 public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
 	
-	// 좋아요 확인
-	public boolean existsByUserAndBoard(User user, Board board);
+	// 좋아요 확인 (엔티티 조회 없이 id로만)
+	// 메서드 이름 쿼리는 users/board를 조인해서 유니크 인덱스 전체를 읽으므로 FK 컬럼으로 직접 조회
+	@Query("select count(l) > 0 from BoardLike l where l.user.id = :userId and l.board.id = :boardId")
+	public boolean existsByUserIdAndBoardId(@Param("userId") Long userId, @Param("boardId") Long boardId);
 	
-	// 좋아요 찾기
-	public Optional<BoardLike> findByUserAndBoard(User user, Board board);
+	// 좋아요 추가, 이미 있으면 무시 (user_id, board_id 유니크 제약) -> 추가된 행 수 반환
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO board_like (user_id, board_id, created_date) VALUES (:userId, :boardId, NOW())",
+			nativeQuery = true)
+	public int insertIgnore(@Param("userId") Long userId, @Param("boardId") Long boardId);
 	
-	// 좋아요 개수
-	public long countByBoard(Board board);
+	// 좋아요 취소 -> 삭제된 행 수 반환
+	@Modifying
+	@Query("delete from BoardLike l where l.user.id = :userId and l.board.id = :boardId")
+	public int deleteByUserIdAndBoardId(@Param("userId") Long userId, @Param("boardId") Long boardId);
+	
+	// 게시글에 좋아요한 사용자 id 목록 (LikeMembershipCache 로딩용)
+	@Query("select l.user.id from BoardLike l where l.board.id = :boardId")
+	public List<Long> findUserIdsByBoardId(@Param("boardId") Long boardId);
 	
 	// 좋아요 제거
 	public void deleteByBoard(Board board);
@@ -1,13 +1,78 @@
 package com.example.board.repository;
 
+import com.example.board.entity.AttachmentStatus;
 import com.example.board.entity.Board;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
-    Page<Board> findByTitleContaining(String title, Pageable pageable);
-    Page<Board> findByContentContaining(String content, Pageable pageable);
-    Page<Board> findByWriterContaining(String writer, Pageable pageable);
-    Page<Board> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
+    // 검색은 BoardSearchIndex가 담당 (LIKE '%keyword%' 전체 스캔 제거)
+    // 목록은 type에 BoardSummary를 넘겨서 필요한 컬럼만 조회
+
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
+
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    // keyset 페이징 (OFFSET 없이 id 인덱스로 바로 찾아감)
+    <T> List<T> findByIdLessThanOrderByIdDesc(Long id, Limit limit, Class<T> type);
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit, Class<T> type);
+
+    // 상세 화면: 게시글 + 첨부파일을 한 번에 조회 (좋아요 여부는 LikeMembershipCache에서)
+    @Query("select b from Board b left join fetch b.files where b.id = :id")
+    Optional<Board> findDetailById(@Param("id") Long id);
+
+    @Query("select b.likeCount from Board b where b.id = :id")
+    Optional<Integer> findLikeCountById(@Param("id") Long id);
+
+    // 좋아요 수 원자적 증감 (읽고-쓰기 없이 DB에서 바로 계산)
+    @Modifying
+    @Query("update Board b set b.likeCount = b.likeCount + :delta where b.id = :id")
+    int addLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select b.commentCount from Board b where b.id = :id")
+    Optional<Integer> findCommentCountById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Board b set b.commentCount = b.commentCount + :delta where b.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 게시글 행 잠금 (같은 게시글의 댓글 삭제를 댓글 작성과 줄 세울 때)
+    @Query(value = "SELECT id FROM board WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    // 백그라운드 업로드 스레드에서 호출되므로 자체 트랜잭션으로 실행
+    @Transactional
+    @Modifying
+    @Query("update Board b set b.attachmentStatus = :status where b.id = :id")
+    int updateAttachmentStatus(@Param("id") Long id, @Param("status") AttachmentStatus status);
+
+    // 첨부파일 처리가 끝나지 않은 채 남은 게시글 (업로드 도중 서버가 종료된 경우)
+    @Query("select b.id from Board b where b.attachmentStatus = :status and b.createdDate < :before")
+    List<Long> findIdsByAttachmentStatusBefore(@Param("status") AttachmentStatus status, @Param("before") LocalDateTime before);
+
+    // 그 사이 업로드가 끝나 상태가 바뀐 게시글은 건너뜀
+    @Transactional
+    @Modifying
+    @Query("update Board b set b.attachmentStatus = :status where b.id in :ids and b.attachmentStatus = :expected")
+    int updateAttachmentStatus(@Param("ids") Collection<Long> ids, @Param("expected") AttachmentStatus expected,
+                               @Param("status") AttachmentStatus status);
+
+    // board_like 기준으로 어긋난 좋아요 수 보정, 보정한 게시글 수 반환
+    @Modifying
+    @Query(value = "UPDATE board b SET like_count = "
+            + "(SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id) "
+            + "WHERE like_count <> (SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id)",
+            nativeQuery = true)
+    int reconcileLikeCounts();
 }
@@ -1,10 +1,29 @@
 package com.example.board.repository;
 
+import com.example.board.dto.CommentView;
 import com.example.board.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    public List<Comment> findByBoardIdOrderByCreatedDateAsc(Long boardId);
-}
\ No newline at end of file
+    // 댓글은 path 순서(트리 화면 순서)의 keyset 페이징으로만 조회 (게시글의 댓글 전체를 읽지 않음)
+    // path 구간이 (작성 시각, id)라서 형제끼리는 (created_date, id) 순서이고, 인덱스는 (board_id, path) 하나로 충분
+    // pathPrefix: 게시글 전체면 "%", 특정 댓글의 답글 묶음이면 "그 댓글 path%"
+    // afterPath: 이 path 다음부터 (첫 페이지면 "")
+    @Query("select new com.example.board.dto.CommentView(c.id, c.writer, c.content, c.createdDate, c.path, c.replyCount, c.deleted) "
+            + "from Comment c where c.board.id = :boardId and c.path like :pathPrefix and c.path > :afterPath "
+            + "order by c.path asc")
+    List<CommentView> findPage(@Param("boardId") Long boardId, @Param("pathPrefix") String pathPrefix,
+                               @Param("afterPath") String afterPath, Limit limit);
+
+    // 답글이 달리거나 지워질 때 조상들의 하위 답글 수 증감
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + :delta where c.board.id = :boardId and c.path in :paths")
+    int addReplyCount(@Param("boardId") Long boardId, @Param("paths") Collection<String> paths, @Param("delta") int delta);
+}
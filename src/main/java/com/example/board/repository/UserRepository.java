@@ -3,10 +3,21 @@ package com.example.board.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.board.entity.User;
 
 public interface UserRepository extends JpaRepository<User, Long>{
 	Optional<User> findByUsername(String username);
 	boolean existsByUsername(String username);
+	
+	// 로그인 후 재해시 저장 (해시 스레드에서 호출되므로 자체 트랜잭션)
+	// 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음
+	@Transactional
+	@Modifying
+	@Query("update User u set u.password = :encoded where u.id = :id and u.password = :previous")
+	int updatePassword(@Param("id") Long id, @Param("previous") String previous, @Param("encoded") String encoded);
 }
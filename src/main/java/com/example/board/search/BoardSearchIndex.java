@@ -0,0 +1,324 @@
+package com.example.board.search;
+
+import com.example.board.dto.BoardCursor;
+import com.example.board.entity.Board;
+import com.example.board.repository.BoardRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 게시글 검색용 Lucene 인덱스 (로컬 디스크)
+// title / content / writer 필드를 1~2글자 n-gram으로 색인해서 LIKE '%keyword%' 검색을 대체한다.
+@Slf4j
+@Component
+public class BoardSearchIndex implements SmartInitializingSingleton {
+    private static final String ID = "id";
+    private static final String KEY = "key";
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final BoardRepository boardRepository;
+    private final Path indexPath;
+    private final boolean rebuildOnStartup;
+    private final Analyzer analyzer = new NGramAnalyzer();
+    private final Object rebuildLock = new Object();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public BoardSearchIndex(BoardRepository boardRepository,
+                            @Value("${board.search.index-path:./data/search-index}") String indexPath,
+                            @Value("${board.search.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.boardRepository = boardRepository;
+        this.indexPath = Paths.get(indexPath);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(indexPath);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    // 요청을 받기 전에 (웹 서버 시작 전) 인덱스를 준비
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (rebuildOnStartup || writer.getDocStats().numDocs == 0) {
+            rebuild();
+        }
+    }
+
+    // DB 기준으로 인덱스를 다시 생성 (콜드 스타트, 운영 중 수동 재생성)
+    // deleteAll 후 다시 채우지 않고 id 구간(배치)별로 "구간 삭제 + 배치 추가"를 한 번에 적용하므로
+    // 재생성 중에도 검색에서 글이 빠지지 않고, DB에서 지워진 글은 그 구간에서 사라진다.
+    // 배치 조회~적용은 index()/delete()와 같은 락 안에서 하므로, 그 사이 커밋된 수정은
+    // 락이 풀린 뒤 index()가 덮어써서 옛 내용으로 되돌아가지 않는다.
+    public long rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            long count = 0;
+            try {
+                long lastId = 0;
+                int size;
+                do {
+                    synchronized (this) {
+                        List<Board> boards = boardRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE), Board.class);
+                        size = boards.size();
+                        long upperId = size == REBUILD_BATCH_SIZE ? boards.get(size - 1).getId() : Long.MAX_VALUE;
+                        writer.deleteDocuments(LongPoint.newRangeQuery(ID, lastId + 1, upperId));
+                        for (Board board : boards) {
+                            writer.addDocument(toDocument(board));
+                        }
+                        searcherManager.maybeRefresh();
+                        lastId = upperId;
+                    }
+                    count += size;
+                } while (size == REBUILD_BATCH_SIZE);
+                writer.commit();
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                throw new UncheckedIOException("검색 인덱스를 생성할 수 없습니다.", e);
+            }
+            log.info("검색 인덱스 재생성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+            return count;
+        }
+    }
+
+    // 게시글 추가/수정
+    public synchronized void index(Board board) {
+        try {
+            writer.updateDocument(new Term(KEY, String.valueOf(board.getId())), toDocument(board));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 인덱스를 갱신할 수 없습니다.", e);
+        }
+    }
+
+    // 여러 게시글을 한 번에 추가 (대량 가져오기, 검색 반영은 마지막에 한 번)
+    public synchronized void indexAll(Collection<Board> boards) {
+        try {
+            for (Board board : boards) {
+                writer.updateDocument(new Term(KEY, String.valueOf(board.getId())), toDocument(board));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 인덱스를 갱신할 수 없습니다.", e);
+        }
+    }
+
+    // 게시글 삭제
+    public synchronized void delete(Long boardId) {
+        try {
+            writer.deleteDocuments(new Term(KEY, String.valueOf(boardId)));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 인덱스를 갱신할 수 없습니다.", e);
+        }
+    }
+
+    // 검색 결과 게시글 id 목록 (id 정렬이 있으면 id 순, 없으면 관련도 순)
+    public Page<Long> search(String searchType, String keyword, Pageable pageable) {
+        Query query = buildQuery(searchType, keyword);
+        Sort sort = toSort(pageable.getSort());
+        int top = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int total = searcher.count(query);
+                if (total == 0 || pageable.getOffset() >= total) {
+                    return new PageImpl<>(List.of(), pageable, total);
+                }
+                TopDocs topDocs = sort == null ? searcher.search(query, top) : searcher.search(query, top, sort);
+                return new PageImpl<>(readIds(searcher, topDocs.scoreDocs, (int) pageable.getOffset()), pageable, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 커서 기반 검색: older면 cursor id보다 작은 글을 id 내림차순, 아니면 큰 글을 id 오름차순으로 limit개
+    public List<Long> searchKeyset(String searchType, String keyword, BoardCursor cursor, int limit) {
+        Query range = cursor.isOlder()
+                ? LongPoint.newRangeQuery(ID, Long.MIN_VALUE, cursor.getId() - 1)
+                : LongPoint.newRangeQuery(ID, cursor.getId() + 1, Long.MAX_VALUE);
+        Query query = new BooleanQuery.Builder()
+                .add(buildQuery(searchType, keyword), BooleanClause.Occur.MUST)
+                .add(range, BooleanClause.Occur.FILTER)
+                .build();
+        Sort sort = new Sort(new SortField(ID, SortField.Type.LONG, cursor.isOlder()));
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return readIds(searcher, searcher.search(query, limit, sort).scoreDocs, 0);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 검색 결과 전체 개수 (인덱스에서 세므로 COUNT(*) 없이 저렴함)
+    public long count(String searchType, String keyword) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.count(buildQuery(searchType, keyword));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    public boolean supports(String searchType) {
+        return switch (searchType == null ? "" : searchType) {
+            case "title", "content", "writer", "titleOrContent" -> true;
+            default -> false;
+        };
+    }
+
+    // 주기적으로 디스크에 커밋 (검색 반영은 maybeRefresh로 바로 됨)
+    @Scheduled(fixedDelayString = "${board.search.commit-interval-ms:5000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query buildQuery(String searchType, String keyword) {
+        switch (searchType) {
+            case "title":
+            case "content":
+            case "writer":
+                return fieldQuery(searchType, keyword);
+            case "titleOrContent":
+                return new BooleanQuery.Builder()
+                        .add(fieldQuery("title", keyword), BooleanClause.Occur.SHOULD)
+                        .add(fieldQuery("content", keyword), BooleanClause.Occur.SHOULD)
+                        .build();
+            default:
+                throw new IllegalArgumentException("지원하지 않는 검색 타입입니다: " + searchType);
+        }
+    }
+
+    // 한 글자면 unigram, 두 글자 이상이면 연속된 bigram 구문 검색
+    private Query fieldQuery(String field, String keyword) {
+        List<String> unigrams = new ArrayList<>();
+        PhraseQuery.Builder phrase = new PhraseQuery.Builder();
+        int bigrams = 0;
+
+        try (TokenStream stream = analyzer.tokenStream(field, keyword)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            PositionIncrementAttribute increment = stream.addAttribute(PositionIncrementAttribute.class);
+            stream.reset();
+            int position = -1;
+            while (stream.incrementToken()) {
+                position += increment.getPositionIncrement();
+                String token = term.toString();
+                if (token.codePointCount(0, token.length()) == 2) {
+                    phrase.add(new Term(field, token), position);
+                    bigrams++;
+                } else {
+                    unigrams.add(token);
+                }
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (bigrams == 0) {
+            return new TermQuery(new Term(field, unigrams.isEmpty() ? "" : unigrams.get(0)));
+        }
+        return phrase.build();
+    }
+
+    private Sort toSort(org.springframework.data.domain.Sort sort) {
+        org.springframework.data.domain.Sort.Order order = sort.getOrderFor(ID);
+        if (order == null) {
+            return null;
+        }
+        return new Sort(new SortField(ID, SortField.Type.LONG, order.isDescending()));
+    }
+
+    private List<Long> readIds(IndexSearcher searcher, ScoreDoc[] scoreDocs, int offset) throws IOException {
+        StoredFields storedFields = searcher.storedFields();
+        List<Long> ids = new ArrayList<>();
+        for (int i = offset; i < scoreDocs.length; i++) {
+            ids.add(storedFields.document(scoreDocs[i].doc).getField(ID).numericValue().longValue());
+        }
+        return ids;
+    }
+
+    private Document toDocument(Board board) {
+        Document document = new Document();
+        document.add(new StringField(KEY, String.valueOf(board.getId()), Field.Store.NO));
+        document.add(new LongPoint(ID, board.getId()));
+        document.add(new NumericDocValuesField(ID, board.getId()));
+        document.add(new StoredField(ID, board.getId()));
+        document.add(new TextField("title", board.getTitle(), Field.Store.NO));
+        document.add(new TextField("content", board.getContent(), Field.Store.NO));
+        document.add(new TextField("writer", board.getWriter(), Field.Store.NO));
+        return document;
+    }
+}
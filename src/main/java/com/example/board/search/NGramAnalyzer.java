@@ -0,0 +1,20 @@
+package com.example.board.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+
+// 1~2글자 n-gram 분석기 (형태소 분석 없이 한글/영문 모두 LIKE '%keyword%'와 같은 결과를 내기 위함)
+// NGramTokenizer(1, 2)는 "abc"를 a(0) ab(1) b(2) bc(3) c(4) 순서로 내보내므로
+// i번째 글자의 bigram은 항상 2i+1 위치에 있다.
+class NGramAnalyzer extends Analyzer {
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new NGramTokenizer(1, 2);
+        TokenStream filter = new LowerCaseFilter(tokenizer);
+        return new TokenStreamComponents(tokenizer, filter);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.board.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 운영 중 검색 인덱스 수동 재생성 (POST /actuator/searchindex, 노출 설정에 추가해야 열림)
+// 재생성 중에도 기존 인덱스로 검색/갱신이 계속된다.
+@Component
+@Endpoint(id = "searchindex")
+@RequiredArgsConstructor
+public class SearchIndexEndpoint {
+
+    private final BoardSearchIndex boardSearchIndex;
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        long start = System.currentTimeMillis();
+        long count = boardSearchIndex.rebuild();
+        return Map.of("indexed", count, "tookMs", System.currentTimeMillis() - start);
+    }
+}
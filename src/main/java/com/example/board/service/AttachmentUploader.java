@@ -0,0 +1,225 @@
+package com.example.board.service;
+
+import com.example.board.cache.BoardCache;
+import com.example.board.entity.AttachmentStatus;
+import com.example.board.entity.Board;
+import com.example.board.entity.BoardFile;
+import com.example.board.repository.BoardRepository;
+import com.example.board.storage.StorageBackend;
+import com.example.board.storage.StoredBlob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+// 게시글 첨부파일을 백그라운드에서 병렬로 저장
+// 요청 스레드는 업로드 파일을 임시 디렉터리로 옮기기만 하고 바로 반환하고,
+// 저장이 끝나면 board_file 행을 한 번의 배치(saveAll)로 넣은 뒤 board.attachment_status를 갱신한다.
+@Slf4j
+@Component
+public class AttachmentUploader {
+    private final StorageBackend storageBackend;
+    private final BoardRepository boardRepository;
+    private final FileService fileService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final BoardCache boardCache;
+    private final Executor uploadExecutor;
+    private final Path stagingDir;
+    private final Duration stagingMaxAge;
+
+    public AttachmentUploader(StorageBackend storageBackend,
+                              BoardRepository boardRepository,
+                              FileService fileService,
+                              ImageDerivativeService imageDerivativeService,
+                              BoardCache boardCache,
+                              @Qualifier("uploadExecutor") Executor uploadExecutor,
+                              @Value("${board.upload.staging-dir:./data/staging}") String stagingDir,
+                              @Value("${board.upload.staging-max-age:60m}") Duration stagingMaxAge) throws IOException {
+        this.storageBackend = storageBackend;
+        this.boardRepository = boardRepository;
+        this.fileService = fileService;
+        this.imageDerivativeService = imageDerivativeService;
+        this.boardCache = boardCache;
+        this.uploadExecutor = uploadExecutor;
+        this.stagingDir = Files.createDirectories(Paths.get(stagingDir).toAbsolutePath());
+        this.stagingMaxAge = stagingMaxAge;
+    }
+
+    // 서버가 업로드 도중 죽으면 임시 파일이 지워지지 않고 남고 게시글도 PROCESSING에 머무르므로
+    // 오래된 임시 파일은 지우고 그 게시글은 FAILED로 바꾼다.
+    // (시작할 때 한 번 + 주기적으로, 정상 업로드는 대기열이 밀려도 이 시간 안에 끝난다고 봄)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${board.upload.staging-sweep-interval-ms:600000}")
+    public void sweepStaging() {
+        deleteStaleStagingFiles();
+        failStaleUploads();
+    }
+
+    private void deleteStaleStagingFiles() {
+        Instant cutoff = Instant.now().minus(stagingMaxAge);
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDir, "*.part")) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("임시 파일 정리 실패: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("임시 디렉터리를 읽을 수 없습니다: {}", stagingDir, e);
+        }
+        if (deleted > 0) {
+            log.info("오래된 첨부파일 임시 파일 {}개 삭제", deleted);
+        }
+    }
+
+    private void failStaleUploads() {
+        try {
+            List<Long> boardIds = boardRepository.findIdsByAttachmentStatusBefore(AttachmentStatus.PROCESSING,
+                    LocalDateTime.now().minus(stagingMaxAge));
+            if (boardIds.isEmpty()) {
+                return;
+            }
+            int failed = boardRepository.updateAttachmentStatus(boardIds, AttachmentStatus.PROCESSING, AttachmentStatus.FAILED);
+            boardCache.evictBoards(boardIds);
+            log.info("첨부파일 처리가 끝나지 않은 게시글 {}개를 실패로 표시", failed);
+        } catch (RuntimeException e) {
+            log.warn("첨부파일 처리 상태 정리 실패", e);
+        }
+    }
+
+    // 게시글이 커밋된 뒤 호출 (board.attachment_status는 PROCESSING으로 저장되어 있어야 함)
+    public CompletableFuture<AttachmentStatus> uploadAsync(Long boardId, List<MultipartFile> files) {
+        // 요청이 끝나면 multipart 임시 파일이 지워지므로 먼저 우리 디렉터리로 옮겨 둔다.
+        List<StagedFile> stagedFiles = new ArrayList<>();
+        try {
+            for (MultipartFile file : files) {
+                stagedFiles.add(stage(file));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("첨부파일 임시 저장 실패: board={}", boardId, e);
+            stagedFiles.forEach(StagedFile::discard);
+            boardRepository.updateAttachmentStatus(boardId, AttachmentStatus.FAILED);
+            boardCache.evictBoard(boardId);
+            return CompletableFuture.completedFuture(AttachmentStatus.FAILED);
+        }
+
+        // 파일마다 저장소에 병렬로 저장
+        List<CompletableFuture<Uploaded>> uploads = stagedFiles.stream()
+                .map(staged -> CompletableFuture.supplyAsync(() -> store(staged), uploadExecutor))
+                .toList();
+
+        return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+                .handle((ignored, e) -> complete(boardId, uploads));
+    }
+
+    private StagedFile stage(MultipartFile file) throws IOException {
+        Path path = stagingDir.resolve(UUID.randomUUID() + ".part");
+        // 절대 경로로 넘기면 Tomcat이 가능할 때 복사 대신 이동(rename)한다.
+        file.transferTo(path.toFile());
+        // 형식은 옮겨 둔 파일의 내용으로 판별
+        try (InputStream in = Files.newInputStream(path)) {
+            return new StagedFile(path, file.getOriginalFilename(), FileService.resolveContentType(in, file.getOriginalFilename()));
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    private Uploaded store(StagedFile staged) {
+        try (InputStream in = Files.newInputStream(staged.path())) {
+            StoredBlob blob = storageBackend.store(in);
+            return new Uploaded(staged, blob);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            staged.discard();
+        }
+    }
+
+    // 성공한 파일만 한 번에 넣고, 하나라도 실패했으면 FAILED
+    private AttachmentStatus complete(Long boardId, List<CompletableFuture<Uploaded>> uploads) {
+        List<Uploaded> stored = new ArrayList<>();
+        for (CompletableFuture<Uploaded> upload : uploads) {
+            try {
+                stored.add(upload.join());
+            } catch (CompletionException e) {
+                log.warn("첨부파일 저장 실패: board={}", boardId, e.getCause());
+            }
+        }
+
+        AttachmentStatus status = stored.size() == uploads.size() ? AttachmentStatus.READY : AttachmentStatus.FAILED;
+        try {
+            insertAll(boardId, stored);
+            // 이미지면 썸네일/축소본 생성 작업 등록
+            imageDerivativeService.generateForBoard(boardId);
+        } catch (RuntimeException e) {
+            // 게시글이 그 사이 삭제된 경우 등: 올려 둔 blob은 참조가 없으면 정리
+            log.warn("첨부파일 정보 저장 실패: board={}", boardId, e);
+            fileService.releaseBlobs(stored.stream().map(uploaded -> uploaded.blob().getKey()).toList());
+            status = AttachmentStatus.FAILED;
+        }
+
+        try {
+            boardRepository.updateAttachmentStatus(boardId, status);
+        } catch (RuntimeException e) {
+            log.warn("첨부파일 상태 갱신 실패: board={}, status={}", boardId, status, e);
+        }
+        boardCache.evictBoard(boardId);
+        return status;
+    }
+
+    // id를 미리 받아 두는 생성기라 saveAll의 INSERT가 JDBC 배치 하나로 나간다.
+    private void insertAll(Long boardId, List<Uploaded> stored) {
+        if (stored.isEmpty()) {
+            return;
+        }
+        Board board = boardRepository.getReferenceById(boardId);
+        List<BoardFile> files = stored.stream()
+                .map(uploaded -> {
+                    BoardFile boardFile = new BoardFile();
+                    boardFile.setBoard(board);
+                    boardFile.setOriginalFileName(uploaded.staged().originalFileName());
+                    boardFile.setStorageKey(uploaded.blob().getKey());
+                    boardFile.setFileSize(uploaded.blob().getSize());
+                    boardFile.setContentType(uploaded.staged().contentType());
+                    return boardFile;
+                })
+                .toList();
+        fileService.attach(files);
+    }
+
+    private record StagedFile(Path path, String originalFileName, String contentType) {
+        void discard() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", path, e);
+            }
+        }
+    }
+
+    private record Uploaded(StagedFile staged, StoredBlob blob) {
+    }
+}
@@ -1,15 +1,14 @@
 package com.example.board.service;
 
-import java.util.Optional;
+import java.util.NoSuchElementException;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.example.board.entity.Board;
-import com.example.board.entity.BoardLike;
-import com.example.board.entity.User;
+import com.example.board.cache.BoardCache;
+import com.example.board.dto.LikeResult;
 import com.example.board.repository.BoardLikeRepository;
 import com.example.board.repository.BoardRepository;
-import com.example.board.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,36 +17,61 @@ import lombok.RequiredArgsConstructor;
 public class BoardLikeService {
 	private final BoardLikeRepository boardLikeRepository;
 	private final BoardRepository boardRepository;
-	private final UserRepository userRepository;
+	private final LikeMembershipCache likeMembershipCache;
+	// 상세 캐시에 좋아요 수가 들어 있음
+	private final BoardCache boardCache;
 	
+	// 좋아요 토글: 삭제를 먼저 시도하고, 지운 게 없으면 추가 (엔티티 조회 없이 2~3개 문장)
+	// board 행의 like_count 갱신이 같은 게시글에 대한 동시 토글을 직렬화한다.
+	@Transactional
 	public boolean toggleLike(Long boardId, Long userId) {
-		Board board = boardRepository.findById(boardId).orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-		User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+		if(boardLikeRepository.deleteByUserIdAndBoardId(userId, boardId) > 0) {
+			boardRepository.addLikeCount(boardId, -1);
+			TransactionHooks.afterCommit(() -> {
+				likeMembershipCache.onToggle(boardId, userId, false);
+				boardCache.evictBoard(boardId);
+			});
+			return false;
+		}
 		
-		Optional<BoardLike> existingLike = boardLikeRepository.findByUserAndBoard(user, board);
+		if(boardLikeRepository.insertIgnore(userId, boardId) > 0) {
+			if(boardRepository.addLikeCount(boardId, 1) == 0) {
+				throw new NoSuchElementException("게시글을 찾을 수 없습니다.");
+			}
+			TransactionHooks.afterCommit(() -> {
+				likeMembershipCache.onToggle(boardId, userId, true);
+				boardCache.evictBoard(boardId);
+			});
+			return true;
+		}
 		
-		if(existingLike.isPresent()) {
-			boardLikeRepository.delete(existingLike.get());
-			return false;
-		} else {
-			BoardLike boardLike = new BoardLike();
-			boardLike.setUser(user);
-			boardLike.setBoard(board);
-			boardLikeRepository.save(boardLike);
+		// 동시에 들어온 다른 요청이 먼저 추가한 경우 (더블 클릭)
+		if(boardLikeRepository.existsByUserIdAndBoardId(userId, boardId)) {
 			return true;
 		}
+		throw new NoSuchElementException("게시글 또는 사용자를 찾을 수 없습니다.");
 	}
 	
+	// 토글 + 바뀐 좋아요 수 (같은 트랜잭션에서 읽으므로 replica 지연 없이 방금 반영한 값)
+	@Transactional
+	public LikeResult toggleLikeWithCount(Long boardId, Long userId) {
+		boolean liked = toggleLike(boardId, userId);
+		return new LikeResult(liked, countLikes(boardId));
+	}
+	
+	@Transactional(readOnly = true)
 	public long countLikes(Long boardId) {
-		Board board = boardRepository.findById(boardId).orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-		
-		return boardLikeRepository.countByBoard(board);
+		return boardRepository.findLikeCountById(boardId).orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다."));
 	}
 	
+	// 게시글 삭제 시 좋아요 캐시 정리
+	public void evictCache(Long boardId) {
+		likeMembershipCache.evict(boardId);
+	}
+	
+	// 대부분 DB 조회 없이 캐시에서 답함
+	@Transactional(readOnly = true)
 	public boolean isLiked(Long boardId, Long userId) {
-		Board board = boardRepository.findById(boardId).orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-		User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-		
-		return boardLikeRepository.existsByUserAndBoard(user, board);
+		return likeMembershipCache.isLiked(boardId, userId);
 	}
 }
@@ -1,33 +1,132 @@
 package com.example.board.service;
 
+import com.example.board.cache.BoardCache;
+import com.example.board.datasource.ReplicaRouting;
+import com.example.board.dto.AttachmentsView;
+import com.example.board.dto.BoardCursor;
+import com.example.board.dto.BoardDetail;
+import com.example.board.dto.BoardSummary;
+import com.example.board.dto.CommentView;
+import com.example.board.dto.CursorPage;
+import com.example.board.dto.FileView;
 import com.example.board.entity.Board;
 import com.example.board.repository.BoardRepository;
+import com.example.board.search.BoardSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BoardService {
     private final BoardRepository boardRepository;
+    private final CommentService commentService;
+    private final ViewCountAggregator viewCountAggregator;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardLikeService boardLikeService;
+    private final FileService fileService;
+    private final BoardCache boardCache;
 
-    public Page<Board> findAll(Pageable pageable){
-        return boardRepository.findAll(pageable);
+    @Value("${board.list.count-cache-ttl-ms:30000}")
+    private long countCacheTtlMs;
+    private volatile long cachedCount = -1;
+    private volatile long cachedCountAt;
+
+    // 상세 화면에 처음 그리는 댓글 수
+    @Value("${board.comment.page-size:50}")
+    private int commentPageSize;
+
+    @Transactional(readOnly = true)
+    public Page<BoardSummary> findAll(Pageable pageable){
+        // 앞쪽 목록 페이지는 캐시 (글 추가/수정/삭제 시 무효화, 조회수는 캐시 밖에서 따로 채움)
+        // 캐시를 채우는 조회는 primary에서 (replica의 옛 데이터가 캐시에 남지 않도록)
+        if (boardCache.isCachedListPage(pageable)) {
+            Page<BoardSummary> boards = boardCache.listPage(pageable, () -> ReplicaRouting.onPrimary(() -> {
+                long stamp = viewCountAggregator.stamp();
+                Page<BoardSummary> page = boardRepository.findAllBy(pageable, BoardSummary.class);
+                viewCountAggregator.remember(stamp, page.getContent().stream()
+                        .collect(Collectors.toMap(BoardSummary::getId, board -> board.getViewCount().longValue())));
+                return page;
+            }));
+            return withViewCounts(boards);
+        }
+        return withPendingViews(boardRepository.findAllBy(pageable, BoardSummary.class));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Board findById(Long id){
         Board board = boardRepository.findById(id).orElseThrow();
-        board.setViewCount(board.getViewCount()+1);
+        viewCountAggregator.increment(id);
+        applyPendingViews(board);
         return board;
     }
 
+    // 상세 화면용 조회
+    // 게시글/첨부파일과 댓글 첫 페이지는 각각 캐시하고 (긴 댓글은 더보기로 나눠 읽음), 좋아요 여부와 조회수는 요청마다 채운다.
+    @Transactional(readOnly = true)
+    public BoardDetail findDetail(Long id, Long viewerId) {
+        BoardDetail board = boardCache.detail(id, () -> ReplicaRouting.onPrimary(() -> loadDetail(id)));
+        CursorPage<CommentView> comments = boardCache.comments(id,
+                () -> ReplicaRouting.onPrimary(() -> commentService.findPage(id, null, commentPageSize)));
+
+        viewCountAggregator.increment(id);
+        return board.toBuilder()
+                .viewCount(viewCountAggregator.viewCount(id))
+                .liked(viewerId != null && boardLikeService.isLiked(id, viewerId))
+                .comments(comments.getContent())
+                .commentCount(comments.getTotalElements() != null ? comments.getTotalElements() : comments.getContent().size())
+                .nextCommentCursor(comments.getNextCursor())
+                .build();
+    }
+
+    // 첨부파일 메타데이터 (상세 캐시를 같이 쓰고, 조회수는 올리지 않음)
+    @Transactional(readOnly = true)
+    public AttachmentsView findAttachments(Long id) {
+        BoardDetail board = boardCache.detail(id, () -> ReplicaRouting.onPrimary(() -> loadDetail(id)));
+        return new AttachmentsView(board.getAttachmentStatus(), board.getFiles());
+    }
+
+    // 게시글 + 첨부파일 한 번에 조회 (fetch join이라 트랜잭션 밖에서도 지연 로딩이 없음)
+    // 캐시에 든 조회수는 낡아 가므로 보여줄 때는 ViewCountAggregator 값을 쓰고, 여기서 읽은 값은 그쪽에 알려 둔다.
+    private BoardDetail loadDetail(Long id) {
+        long stamp = viewCountAggregator.stamp();
+        Board board = boardRepository.findDetailById(id)
+                .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다."));
+        viewCountAggregator.remember(stamp, Map.of(id, board.getViewCount().longValue()));
+        return BoardDetail.builder()
+                .id(board.getId())
+                .title(board.getTitle())
+                .content(board.getContent())
+                .writer(board.getWriter())
+                .createdDate(board.getCreatedDate())
+                .modifiedDate(board.getModifiedDate())
+                .viewCount(board.getViewCount())
+                .likeCount(board.getLikeCount())
+                .files(board.getFiles().stream().map(FileView::from).collect(Collectors.toUnmodifiableList()))
+                .attachmentStatus(board.getAttachmentStatus())
+                .build();
+    }
+
     public Board save(Board board){
-        return boardRepository.save(board);
+        Board savedBoard = boardRepository.save(board);
+        TransactionHooks.afterCommit(() -> boardSearchIndex.index(savedBoard));
+        TransactionHooks.afterCommit(boardCache::evictListPages);
+        return savedBoard;
     }
 
     @Transactional
@@ -35,25 +134,115 @@ public class BoardService {
         Board updateBoard = boardRepository.findById(id).orElseThrow();
         updateBoard.setTitle(board.getTitle());
         updateBoard.setContent(board.getContent());
+        TransactionHooks.afterCommit(() -> boardSearchIndex.index(updateBoard));
+        TransactionHooks.afterCommit(() -> {
+            boardCache.evictBoard(id);
+            boardCache.evictListPages();
+        });
         return updateBoard;
     }
 
+    @Transactional
     public void delete(Long id){
+        // 첨부파일 행은 cascade로 지워지므로 blob key를 미리 받아 둠
+        List<String> storageKeys = fileService.getStorageKeys(id);
         boardRepository.deleteById(id);
+        TransactionHooks.afterCommit(() -> fileService.releaseBlobs(storageKeys));
+        // 삭제가 롤백되면(좋아요 외래 키 등) 밀린 조회수와 좋아요 캐시가 그대로 남아야 하므로 커밋 후에
+        TransactionHooks.afterCommit(() -> {
+            viewCountAggregator.discard(id);
+            boardLikeService.evictCache(id);
+        });
+        TransactionHooks.afterCommit(() -> boardSearchIndex.delete(id));
+        TransactionHooks.afterCommit(() -> {
+            boardCache.evictBoard(id);
+            boardCache.evictComments(id);
+            boardCache.evictListPages();
+        });
+    }
+
+    // 검색 인덱스에서 id만 찾고, 해당 페이지의 게시글만 DB에서 조회
+    @Transactional(readOnly = true)
+    public Page<BoardSummary> search(String searchType, String keyword, Pageable pageable) {
+        if (!boardSearchIndex.supports(searchType)) {
+            return findAll(pageable);
+        }
+
+        Page<Long> ids = boardSearchIndex.search(searchType, keyword, pageable);
+        return withPendingViews(new PageImpl<>(findAllInOrder(ids.getContent()), pageable, ids.getTotalElements()));
+    }
+
+    // 커서 기반 목록 (OFFSET/COUNT(*) 없음, 전체 개수는 캐시된 근사값)
+    @Transactional(readOnly = true)
+    public CursorPage<BoardSummary> findAll(String cursor, int size) {
+        return keyset(BoardCursor.parse(cursor), size, approximateCount(), (c, limit) -> c.isOlder()
+                ? boardRepository.findByIdLessThanOrderByIdDesc(c.getId(), Limit.of(limit), BoardSummary.class)
+                : boardRepository.findByIdGreaterThanOrderByIdAsc(c.getId(), Limit.of(limit), BoardSummary.class));
+    }
+
+    // 커서 기반 검색 (검색 인덱스에서 id 범위로 바로 찾아감)
+    @Transactional(readOnly = true)
+    public CursorPage<BoardSummary> search(String searchType, String keyword, String cursor, int size) {
+        if (!boardSearchIndex.supports(searchType)) {
+            return findAll(cursor, size);
+        }
+        return keyset(BoardCursor.parse(cursor), size, boardSearchIndex.count(searchType, keyword),
+                (c, limit) -> findAllInOrder(boardSearchIndex.searchKeyset(searchType, keyword, c, limit)));
+    }
+
+    // fetcher는 older면 id 내림차순, 아니면 id 오름차순으로 반환
+    private CursorPage<BoardSummary> keyset(BoardCursor cursor, int size, Long total,
+                                            BiFunction<BoardCursor, Integer, List<BoardSummary>> fetcher) {
+        // 한 건 더 가져와서 다음 페이지 존재 여부 확인
+        List<BoardSummary> rows = new ArrayList<>(fetcher.apply(cursor, size + 1));
+        boolean more = rows.size() > size;
+        if (more) {
+            rows.remove(size);
+        }
+        if (!cursor.isOlder()) {
+            Collections.reverse(rows);
+        }
+        rows.replaceAll(row -> row.withPendingViews(viewCountAggregator.pendingCount(row.getId())));
+
+        boolean hasNext = cursor.isOlder() ? more : true;
+        boolean hasPrevious = cursor.isOlder() ? !cursor.isFirst() : more;
+        String next = hasNext && !rows.isEmpty() ? BoardCursor.olderThan(rows.get(rows.size() - 1).getId()).encode() : null;
+        String previous = hasPrevious && !rows.isEmpty() ? BoardCursor.newerThan(rows.get(0).getId()).encode() : null;
+        return new CursorPage<>(rows, next, previous, total);
     }
 
-    public Page<Board> search(String searchType, String keyword, Pageable pageable) {
-        switch (searchType) {
-            case "title":
-                return boardRepository.findByTitleContaining(keyword, pageable);
-            case "content":
-                return boardRepository.findByContentContaining(keyword, pageable);
-            case "writer":
-                return boardRepository.findByWriterContaining(keyword, pageable);
-            case "titleOrContent":
-                return boardRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable);
-            default:
-                return boardRepository.findAll(pageable);
+    // 전체 게시글 수는 TTL 동안 캐시 (목록마다 COUNT(*) 하지 않도록)
+    private Long approximateCount() {
+        long now = System.currentTimeMillis();
+        if (cachedCount < 0 || now - cachedCountAt > countCacheTtlMs) {
+            cachedCount = boardRepository.count();
+            cachedCountAt = now;
         }
+        return cachedCount;
+    }
+
+    // id 목록 순서(관련도 또는 id 순)를 유지, 인덱스 반영 전에 삭제된 글은 제외
+    private List<BoardSummary> findAllInOrder(List<Long> ids) {
+        Map<Long, BoardSummary> boards = boardRepository.findByIdIn(ids, BoardSummary.class).stream()
+                .collect(Collectors.toMap(BoardSummary::getId, Function.identity()));
+        return ids.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // 아직 DB에 반영되지 않은 조회수를 더해서 보여줌 (viewCount는 updatable = false라 dirty checking 대상이 아님)
+    private void applyPendingViews(Board board) {
+        board.setViewCount(board.getViewCount() + (int) viewCountAggregator.pendingCount(board.getId()));
+    }
+
+    private Page<BoardSummary> withPendingViews(Page<BoardSummary> boards) {
+        return boards.map(board -> board.withPendingViews(viewCountAggregator.pendingCount(board.getId())));
+    }
+
+    // 캐시에서 꺼낸 목록: 조회수를 통째로 바꿔 끼움
+    private Page<BoardSummary> withViewCounts(Page<BoardSummary> boards) {
+        Map<Long, Long> counts = viewCountAggregator.viewCounts(boards.map(BoardSummary::getId).getContent());
+        return boards.map(board -> board.withViewCount(counts.get(board.getId())));
     }
 }
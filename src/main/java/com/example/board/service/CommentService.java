@@ -1,44 +1,160 @@
 package com.example.board.service;
 
-import com.example.board.entity.Board;
+import com.example.board.cache.BoardCache;
+import com.example.board.dto.CommentCursor;
+import com.example.board.dto.CommentResult;
+import com.example.board.dto.CommentView;
+import com.example.board.dto.CursorPage;
 import com.example.board.entity.Comment;
 import com.example.board.repository.BoardRepository;
 import com.example.board.repository.CommentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
+    private final BoardCache boardCache;
+    private final EntityManager entityManager;
     
-    // 댓글 목록 조회
-    public List<Comment> findByBoardId(Long boardId) {
-        return commentRepository.findByBoardIdOrderByCreatedDateAsc(boardId);
+    // 게시글의 댓글 한 페이지 (답글 포함 트리 순서, cursor가 없으면 처음부터)
+    // 전체 개수는 board.comment_count 값
+    @Transactional(readOnly = true)
+    public CursorPage<CommentView> findPage(Long boardId, String cursor, int size) {
+        Long total = boardRepository.findCommentCountById(boardId).map(Long::valueOf).orElse(null);
+        return page(boardId, "%", CommentCursor.parse(cursor), size, total);
     }
     
+    // 특정 댓글 아래의 답글 묶음 한 페이지 (댓글 자신은 제외)
+    @Transactional(readOnly = true)
+    public CursorPage<CommentView> findReplies(Long commentId, String cursor, int size) {
+        Comment parent = findById(commentId);
+        String after = CommentCursor.parse(cursor);
+        if (after.compareTo(parent.getPath()) < 0) {
+            after = parent.getPath();
+        }
+        return page(parent.getBoard().getId(), parent.getPath() + "%", after, size, (long) parent.getReplyCount());
+    }
+    
+    private CursorPage<CommentView> page(Long boardId, String pathPrefix, String afterPath, int size, Long total) {
+        // 한 건 더 가져와서 다음 페이지 존재 여부 확인
+        List<CommentView> comments = new ArrayList<>(
+            commentRepository.findPage(boardId, pathPrefix, afterPath, Limit.of(size + 1)));
+        String next = null;
+        if (comments.size() > size) {
+            comments.remove(size);
+            next = CommentCursor.after(comments.get(size - 1));
+        }
+        return new CursorPage<>(comments, next, null, total);
+    }
+    
+    @Transactional(readOnly = true)
     public Comment findById(Long id) {
-    	return commentRepository.findById(id).orElseThrow(() -> new RuntimeException("no comment you write before"));
+    	return commentRepository.findById(id).orElseThrow(() -> new NoSuchElementException("댓글을 찾을 수 없습니다."));
     }
     
-    // 댓글 저장
-    public Comment save(Long boardId, String writer, String content) {
-        Board board = boardRepository.findById(boardId)
-            .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+    // 댓글 저장 (parentId가 있으면 그 댓글의 답글)
+    // 댓글 수 증가가 게시글 존재 확인과 게시글 행 잠금을 겸함 (게시글 행을 따로 읽지 않음)
+    // 삭제와 같은 순서(게시글 행을 먼저, 댓글 행은 그다음)로 잠가야 서로 기다리다 교착되지 않는다.
+    @Transactional
+    public Comment save(Long boardId, Long parentId, String writer, String content) {
+        if (boardRepository.addCommentCount(boardId, 1) == 0) {
+            throw new NoSuchElementException("게시글을 찾을 수 없습니다.");
+        }
+        
+        String parentPath = null;
+        if (parentId != null) {
+            // 부모를 잠가서, 답글이 없는 줄 알고 부모를 지우는 삭제와 엇갈리지 않게 함
+            Comment parent = lock(parentId);
+            if (!parent.getBoard().getId().equals(boardId)) {
+                throw new IllegalArgumentException("다른 게시글의 댓글에는 답글을 달 수 없습니다.");
+            }
+            // 가장 깊은 댓글에 단 답글은 그 댓글과 같은 깊이에 붙임
+            parentPath = parent.getDepth() < Comment.MAX_DEPTH ? parent.getPath() : Comment.parentPath(parent.getPath());
+        }
         
         Comment comment = new Comment();
         comment.setWriter(writer);
         comment.setContent(content);
-        comment.setBoard(board);
+        comment.setBoard(boardRepository.getReferenceById(boardId));
+        comment.setParentPath(parentPath);
         
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        if (parentPath != null) {
+            // 부모와 그 위 조상들의 하위 답글 수 +1 (UPDATE 한 번)
+            List<String> ancestors = new ArrayList<>();
+            ancestors.add(parentPath);
+            ancestors.addAll(Comment.ancestorPaths(parentPath));
+            commentRepository.addReplyCount(boardId, ancestors, 1);
+        }
+        TransactionHooks.afterCommit(() -> boardCache.evictComments(boardId));
+        return savedComment;
     }
     
     // 댓글 삭제
+    // 답글이 달린 댓글은 답글 트리가 끊기지 않도록 내용만 지우고 "삭제된 댓글"로 남긴다.
+    @Transactional
     public void delete(Long commentId) {
-        commentRepository.deleteById(commentId);
+        delete(lockForDelete(commentId));
+    }
+    
+    private void delete(Comment comment) {
+        Long boardId = comment.getBoard().getId();
+        if (comment.getReplyCount() > 0) {
+            comment.setDeleted(true);
+            comment.setContent("");
+        } else {
+            commentRepository.delete(comment);
+            boardRepository.addCommentCount(boardId, -1);
+            List<String> ancestors = Comment.ancestorPaths(comment.getPath());
+            if (!ancestors.isEmpty()) {
+                commentRepository.addReplyCount(boardId, ancestors, -1);
+            }
+        }
+        TransactionHooks.afterCommit(() -> boardCache.evictComments(boardId));
+    }
+    
+    // 작성과 같은 순서로 게시글 행을 먼저 잠근 다음 지울 댓글을 잠금
+    private Comment lockForDelete(Long commentId) {
+        boardRepository.lockById(findById(commentId).getBoard().getId());
+        return lock(commentId);
+    }
+    
+    // 댓글 행을 잠그고 DB 값으로 다시 읽음 (답글 수를 보고 판단하는 저장/삭제용)
+    // open-in-view로 앞서 읽어 둔 엔티티가 있으면 그 값은 낡았을 수 있으므로 refresh로 덮어쓴다.
+    private Comment lock(Long commentId) {
+        Comment comment = findById(commentId);
+        entityManager.refresh(comment, LockModeType.PESSIMISTIC_WRITE);
+        return comment;
+    }
+    
+    // 댓글 작성 + 바뀐 댓글 수 (API 응답용, 같은 트랜잭션에서 읽으므로 방금 반영한 값)
+    @Transactional
+    public CommentResult saveWithCount(Long boardId, Long parentId, String writer, String content) {
+        Comment comment = save(boardId, parentId, writer, content);
+        return new CommentResult(CommentView.from(comment), commentCount(boardId));
+    }
+    
+    // 댓글 삭제 + 바뀐 댓글 수 (삭제된 댓글로 남았으면 그 상태도 같이)
+    @Transactional
+    public CommentResult deleteWithCount(Long commentId) {
+        Comment comment = lockForDelete(commentId);
+        Long boardId = comment.getBoard().getId();
+        delete(comment);
+        return new CommentResult(comment.isDeleted() ? CommentView.from(comment) : null, commentCount(boardId));
+    }
+    
+    private long commentCount(Long boardId) {
+        return boardRepository.findCommentCountById(boardId).orElse(0);
     }
-}
\ No newline at end of file
+}
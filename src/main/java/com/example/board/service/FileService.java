@@ -1,89 +1,320 @@
 package com.example.board.service;
 
+import com.example.board.cache.BoardCache;
+import com.example.board.datasource.ReplicaRouting;
 import com.example.board.entity.Board;
 import com.example.board.entity.BoardFile;
 import com.example.board.repository.BoardFileRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.board.storage.StorageBackend;
+import com.example.board.storage.StoredBlob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileService {
+    private static final String INSERT_BLOB_LOCK = "INSERT IGNORE INTO storage_blob_lock (storage_key) VALUES (?)";
+    private static final String SELECT_BLOB_LOCK = "SELECT storage_key FROM storage_blob_lock WHERE storage_key = ? FOR UPDATE";
+    private static final String DELETE_BLOB_LOCK = "DELETE FROM storage_blob_lock WHERE storage_key = ?";
+
+    // 내용으로 판별할 수 없을 때 파일명만 보고 붙여도 되는 형식 (브라우저가 실행하지 않는 것)
+    private static final Set<String> SAFE_TYPES = Set.of(
+        MediaType.TEXT_PLAIN_VALUE, "text/csv", "application/zip", "application/x-7z-compressed",
+        "application/gzip", "audio/mpeg", "video/mp4",
+        "application/msword", "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+        "application/vnd.ms-excel", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+        "application/vnd.ms-powerpoint", "application/vnd.openxmlformats-officedocument.presentationml.presentation");
+
     private final BoardFileRepository boardFileRepository;
-    
-    // 파일 저장 경로
-    private final String uploadPath = "C:/upload/";  // Windows
-    // private final String uploadPath = "/upload/";  // Linux/Mac
+    private final StorageBackend storageBackend;
+    private final BoardCache boardCache;
+    private final JdbcTemplate jdbcTemplate;
+    // blob 정리는 호출한 쪽 트랜잭션(afterCommit 안일 수도 있음)과 별개로 blob마다 짧게 커밋
+    private final TransactionTemplate releaseTransaction;
+
+    public FileService(BoardFileRepository boardFileRepository,
+                       StorageBackend storageBackend,
+                       BoardCache boardCache,
+                       JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager) {
+        this.boardFileRepository = boardFileRepository;
+        this.storageBackend = storageBackend;
+        this.boardCache = boardCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.releaseTransaction = new TransactionTemplate(transactionManager);
+        this.releaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
     
     // 파일 저장
+    @Transactional
     public List<BoardFile> saveFiles(List<MultipartFile> files, Board board) throws IOException {
         List<BoardFile> savedFiles = new ArrayList<>();
         
-        // 업로드 디렉토리가 없으면 생성
-        File uploadDir = new File(uploadPath);
-        if (!uploadDir.exists()) {
-            uploadDir.mkdirs();
-        }
-        
         for (MultipartFile file : files) {
             if (file.isEmpty()) {
                 continue;
             }
             
-            // 원본 파일명
-            String originalFileName = file.getOriginalFilename();
-            
-            // 저장될 파일명 (UUID + 원본파일명)
-            String savedFileName = UUID.randomUUID().toString() + "_" + originalFileName;
-            
-            // 파일 저장 경로
-            String filePath = uploadPath + savedFileName;
-            
-            // 파일 저장
-            File dest = new File(filePath);
-            file.transferTo(dest);
+            // 내용 해시로 저장 (같은 파일은 한 번만 저장됨)
+            StoredBlob blob;
+            try (InputStream in = file.getInputStream()) {
+                blob = storageBackend.store(in);
+            }
             
             // BoardFile 엔티티 생성
             BoardFile boardFile = new BoardFile();
             boardFile.setBoard(board);
-            boardFile.setOriginalFileName(originalFileName);
-            boardFile.setSavedFileName(savedFileName);
-            boardFile.setFilePath(filePath);
-            boardFile.setFileSize(file.getSize());
+            boardFile.setOriginalFileName(file.getOriginalFilename());
+            boardFile.setStorageKey(blob.getKey());
+            boardFile.setFileSize(blob.getSize());
+            boardFile.setContentType(resolveContentType(file));
             
-            savedFiles.add(boardFileRepository.save(boardFile));
+            savedFiles.add(boardFile);
+        }
+        
+        return attach(savedFiles);
+    }
+    
+    // 저장소에 올려 둔 blob을 참조하는 첨부파일 행 추가
+    // blob을 잠그고 아직 남아 있는지 확인한 뒤 넣으므로, 그 사이 releaseBlobs가 지웠으면 예외로 실패한다.
+    @Transactional
+    public List<BoardFile> attach(List<BoardFile> files) {
+        claimBlobs(files.stream().map(BoardFile::getStorageKey).toList());
+        // 한 번에 저장해야 INSERT가 JDBC 배치로 묶임
+        return boardFileRepository.saveAll(files);
+    }
+    
+    // 이미지 파생본 key 기록 (첨부파일이 그 사이 삭제되었으면 0)
+    @Transactional
+    public int attachDerivatives(Long fileId, String thumbnailKey, String webKey, String contentType) {
+        claimBlobs(List.of(thumbnailKey, webKey));
+        return boardFileRepository.updateDerivatives(fileId, thumbnailKey, webKey, contentType);
+    }
+    
+    // 파일 한 건 조회
+    @Transactional(readOnly = true)
+    public BoardFile findById(Long fileId) {
+        return boardFileRepository.findById(fileId)
+            .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+    }
+    
+    // 로컬 디스크에 있으면 실제 경로 (sendfile 용)
+    public Optional<Path> localPath(BoardFile boardFile) {
+        return storageBackend.localPath(boardFile.getStorageKey());
+    }
+    
+    // blob 전체를 복사 (썸네일 등 작은 파생본 전송용)
+    public void copyBlob(String storageKey, OutputStream out) throws IOException {
+        Optional<Path> path = storageBackend.localPath(storageKey);
+        if (path.isPresent()) {
+            Files.copy(path.get(), out);
+            return;
+        }
+        try (InputStream in = storageBackend.open(storageKey, 0, Long.MAX_VALUE)) {
+            in.transferTo(out);
+        }
+    }
+    
+    // 로컬 디스크에 있으면 blob 크기, 원격 저장소면 알 수 없음(-1)
+    public long blobLength(String storageKey) throws IOException {
+        Optional<Path> path = storageBackend.localPath(storageKey);
+        return path.isPresent() ? Files.size(path.get()) : -1;
+    }
+    
+    // 파일의 [position, position + count) 구간을 복사
+    // 로컬 디스크면 FileChannel.transferTo, 아니면 저장소에서 해당 구간만 스트리밍
+    // target이 소켓/파일 채널이 아니면 (servlet 출력 스트림 등) JDK가 버퍼를 거쳐 복사하므로 zero-copy가 아니다.
+    public void transferTo(BoardFile boardFile, long position, long count, WritableByteChannel target) throws IOException {
+        Optional<Path> path = localPath(boardFile);
+        if (path.isEmpty()) {
+            try (InputStream in = storageBackend.open(boardFile.getStorageKey(), position, count)) {
+                in.transferTo(Channels.newOutputStream(target));
+            }
+            return;
         }
         
-        return savedFiles;
+        try (FileChannel channel = FileChannel.open(path.get(), StandardOpenOption.READ)) {
+            while (count > 0) {
+                long transferred = channel.transferTo(position, count, target);
+                if (transferred <= 0) {
+                    throw new EOFException("파일이 예상보다 짧습니다: " + boardFile.getId());
+                }
+                position += transferred;
+                count -= transferred;
+            }
+        }
+    }
+    
+    // 브라우저가 보낸 Content-Type은 믿지 않고 내용 앞부분(매직 바이트)으로 판별
+    // 이미지/PDF는 내용이 맞을 때만, 그 밖에는 파일명이 안전한 형식(SAFE_TYPES)일 때만 그 형식,
+    // 나머지는 모두 application/octet-stream (text/html 등이 같은 출처에서 열리지 않도록)
+    static String resolveContentType(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return resolveContentType(in, file.getOriginalFilename());
+        }
+    }
+
+    static String resolveContentType(InputStream in, String fileName) throws IOException {
+        byte[] head = in.readNBytes(12);
+        String sniffed = sniff(head);
+        if (sniffed != null) {
+            return sniffed;
+        }
+        String byName = MediaTypeFactory.getMediaType(fileName)
+            .map(MediaType::toString)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        return SAFE_TYPES.contains(byName) ? byName : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+
+    private static String sniff(byte[] head) {
+        if (startsWith(head, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return MediaType.IMAGE_PNG_VALUE;
+        }
+        if (startsWith(head, 0xFF, 0xD8, 0xFF)) {
+            return MediaType.IMAGE_JPEG_VALUE;
+        }
+        if (startsWith(head, 'G', 'I', 'F', '8')) {
+            return MediaType.IMAGE_GIF_VALUE;
+        }
+        if (startsWith(head, 'R', 'I', 'F', 'F') && head.length >= 12
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return "image/webp";
+        }
+        if (startsWith(head, '%', 'P', 'D', 'F', '-')) {
+            return MediaType.APPLICATION_PDF_VALUE;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int... magic) {
+        if (head.length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((head[i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
     }
     
     // 게시글의 파일 목록 조회
+    @Transactional(readOnly = true)
     public List<BoardFile> getFilesByBoard(Board board) {
         return boardFileRepository.findByBoard(board);
     }
     
+    // 게시글에 달린 blob key 목록 (게시글 삭제 전에 받아 두었다가 releaseBlobs에 넘김)
+    // 썸네일/웹용 파생본 key도 포함
+    // 방금 올라간 첨부파일이 빠지면 blob이 남으므로 replica가 아니라 primary에서 읽는다.
+    public List<String> getStorageKeys(Long boardId) {
+        List<String> keys = new ArrayList<>();
+        for (Object[] row : ReplicaRouting.onPrimary(() -> boardFileRepository.findBlobKeysByBoardId(boardId))) {
+            for (Object key : row) {
+                if (key != null) {
+                    keys.add((String) key);
+                }
+            }
+        }
+        return keys;
+    }
+    
     // 파일 삭제
-    public void deleteFile(Long fileId) throws IOException {
+    @Transactional
+    public void deleteFile(Long fileId) {
         BoardFile boardFile = boardFileRepository.findById(fileId)
             .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
         
-        // 실제 파일 삭제
-        File file = new File(boardFile.getFilePath());
-        if (file.exists()) {
-            file.delete();
-        }
-        
         // DB에서 삭제
         boardFileRepository.delete(boardFile);
+        
+        // 커밋 후 더 이상 참조하는 행이 없으면 실제 파일 삭제
+        List<String> keys = new ArrayList<>();
+        keys.add(boardFile.getStorageKey());
+        if (boardFile.getThumbnailKey() != null) {
+            keys.add(boardFile.getThumbnailKey());
+        }
+        if (boardFile.getWebKey() != null) {
+            keys.add(boardFile.getWebKey());
+        }
+        Long boardId = boardFile.getBoard().getId();
+        TransactionHooks.afterCommit(() -> {
+            releaseBlobs(keys);
+            boardCache.evictBoard(boardId);
+        });
+    }
+    
+    // 참조 수가 0이 된 blob 삭제
+    // blob 잠금 행을 잡고 세므로, 같은 내용을 다시 올려 attach 중인 트랜잭션과 겹치면
+    // 그쪽이 커밋한 뒤에 세어 참조가 있는 blob을 지우지 않는다.
+    // 복제 지연이 없는 primary에서 센다 (replica에서 세면 방금 올라간 파일의 blob을 지울 수 있음)
+    public void releaseBlobs(Collection<String> storageKeys) {
+        for (String storageKey : new TreeSet<>(storageKeys)) {
+            try {
+                ReplicaRouting.onPrimary(() -> releaseTransaction.execute(status -> {
+                    lockBlob(storageKey);
+                    if (boardFileRepository.countReferences(storageKey) > 0) {
+                        return false;
+                    }
+                    try {
+                        storageBackend.delete(storageKey);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    jdbcTemplate.update(DELETE_BLOB_LOCK, storageKey);
+                    return true;
+                }));
+            } catch (RuntimeException e) {
+                log.warn("첨부파일 삭제 실패: {}", storageKey, e);
+            }
+        }
+    }
+    
+    // 호출한 트랜잭션이 끝날 때까지 blob을 잠그고, 저장소에 아직 있는지 확인
+    // 여러 개는 key 순서대로 잠가 서로 기다리는 일이 없도록 함
+    private void claimBlobs(Collection<String> storageKeys) {
+        for (String storageKey : new TreeSet<>(storageKeys)) {
+            lockBlob(storageKey);
+            boolean exists;
+            try {
+                exists = storageBackend.exists(storageKey);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!exists) {
+                throw new IllegalStateException("첨부파일이 저장 도중 삭제되었습니다. 다시 올려 주세요: " + storageKey);
+            }
+        }
+    }
+    
+    private void lockBlob(String storageKey) {
+        jdbcTemplate.update(INSERT_BLOB_LOCK, storageKey);
+        jdbcTemplate.queryForList(SELECT_BLOB_LOCK, String.class, storageKey);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,252 @@
+package com.example.board.service;
+
+import com.example.board.datasource.ReplicaRouting;
+import com.example.board.entity.BoardFile;
+import com.example.board.repository.BoardFileRepository;
+import com.example.board.storage.StorageBackend;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+// 이미지 첨부파일의 썸네일 / 웹용 축소본 생성 (ImageIO)
+// 파생본도 원본과 같은 저장소에 내용 해시로 저장하고 BoardFile에 key를 기록한다.
+@Slf4j
+@Component
+public class ImageDerivativeService {
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final BoardFileRepository boardFileRepository;
+    private final StorageBackend storageBackend;
+    private final FileService fileService;
+    private final Executor derivativeExecutor;
+    private final int thumbnailSize;
+    private final int webSize;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final Duration sweepWindow;
+
+    // 대기열에 올라가 있거나 생성 중인 첨부파일 id (주기적 재등록이 같은 작업을 또 넣지 않도록)
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    public ImageDerivativeService(BoardFileRepository boardFileRepository,
+                                  StorageBackend storageBackend,
+                                  FileService fileService,
+                                  @Qualifier("derivativeExecutor") Executor derivativeExecutor,
+                                  @Value("${board.derivative.thumbnail-size:200}") int thumbnailSize,
+                                  @Value("${board.derivative.web-size:1280}") int webSize,
+                                  @Value("${board.derivative.jpeg-quality:0.85}") float jpegQuality,
+                                  @Value("${board.derivative.max-pixels:40000000}") long maxPixels,
+                                  @Value("${board.derivative.sweep-window:24h}") Duration sweepWindow) {
+        this.boardFileRepository = boardFileRepository;
+        this.storageBackend = storageBackend;
+        this.fileService = fileService;
+        this.derivativeExecutor = derivativeExecutor;
+        this.thumbnailSize = thumbnailSize;
+        this.webSize = webSize;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.sweepWindow = sweepWindow;
+    }
+
+    // 게시글의 이미지 중 파생본이 없는 것들을 백그라운드 작업으로 등록
+    // 방금 저장한 첨부파일을 찾으므로 primary에서 읽음
+    public void generateForBoard(Long boardId) {
+        for (BoardFile file : ReplicaRouting.onPrimary(() -> boardFileRepository.findImagesWithoutDerivatives(boardId))) {
+            if (!submit(file)) {
+                // 그동안은 원본으로 대체 표시되고, 아래 주기적 재등록에서 다시 시도
+                log.warn("썸네일 작업 대기열이 가득 차서 나중에 다시 시도합니다: file={}", file.getId());
+                return;
+            }
+        }
+    }
+
+    // 대기열이 가득 차서 거절되었거나 서버 재시작으로 사라진 작업을 다시 등록
+    // 최근(sweep-window) 업로드만 보고, 형식을 모르거나 너무 큰 이미지는 건너뛴 것으로 기록되어 다시 고르지 않는다.
+    @Scheduled(initialDelayString = "${board.derivative.sweep-interval-ms:300000}",
+            fixedDelayString = "${board.derivative.sweep-interval-ms:300000}")
+    public void sweepPending() {
+        LocalDateTime since = LocalDateTime.now().minus(sweepWindow);
+        int submitted = 0;
+        long afterId = 0;
+        List<BoardFile> files;
+        do {
+            files = boardFileRepository.findPendingDerivatives(since, afterId, Limit.of(SWEEP_BATCH_SIZE));
+            for (BoardFile file : files) {
+                afterId = file.getId();
+                if (queued.contains(file.getId())) {
+                    continue;
+                }
+                // 대기열이 다시 차면 이번 주기는 여기까지
+                if (!submit(file)) {
+                    log.info("밀린 썸네일 작업 {}건 다시 등록 (대기열이 가득 차서 나머지는 다음 주기에)", submitted);
+                    return;
+                }
+                submitted++;
+            }
+        } while (files.size() == SWEEP_BATCH_SIZE);
+        if (submitted > 0) {
+            log.info("밀린 썸네일 작업 {}건 다시 등록", submitted);
+        }
+    }
+
+    private boolean submit(BoardFile file) {
+        if (!queued.add(file.getId())) {
+            return true;
+        }
+        try {
+            derivativeExecutor.execute(() -> {
+                try {
+                    generate(file);
+                } finally {
+                    queued.remove(file.getId());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(file.getId());
+            return false;
+        }
+    }
+
+    void generate(BoardFile file) {
+        List<String> storedKeys = new ArrayList<>();
+        try {
+            BufferedImage image = read(file);
+            if (image == null) {
+                boardFileRepository.markDerivativesSkipped(file.getId());
+                return;
+            }
+
+            // 투명도가 있으면 PNG, 아니면 JPEG
+            boolean alpha = image.getColorModel().hasAlpha();
+            String thumbnailKey = store(encode(resize(image, thumbnailSize, alpha), alpha));
+            storedKeys.add(thumbnailKey);
+            String webKey = store(encode(resize(image, webSize, alpha), alpha));
+            storedKeys.add(webKey);
+
+            int updated = fileService.attachDerivatives(file.getId(), thumbnailKey, webKey,
+                    alpha ? "image/png" : "image/jpeg");
+            if (updated == 0) {
+                // 그 사이 첨부파일이 삭제됨
+                fileService.releaseBlobs(storedKeys);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: file={}", file.getId(), e);
+            fileService.releaseBlobs(storedKeys);
+        }
+    }
+
+    // 너무 큰 이미지(압축 폭탄)나 읽을 수 없는 형식이면 null, 큰 이미지는 읽을 때부터 subsampling해서 메모리를 아낀다.
+    private BufferedImage read(BoardFile file) throws IOException {
+        try (InputStream in = storageBackend.open(file.getStorageKey(), 0, file.getFileSize());
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                log.info("읽을 수 없는 이미지 형식이라 썸네일을 만들지 않습니다: file={}, {}", file.getId(), file.getContentType());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.info("이미지가 너무 커서 썸네일을 만들지 않습니다: file={}, {}x{}", file.getId(), width, height);
+                    return null;
+                }
+                int subsampling = Math.max(1, Math.max(width, height) / (webSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 box 이하가 되도록 축소 (확대는 하지 않음)
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나눠서 줄인다.
+    private BufferedImage resize(BufferedImage source, int box, boolean alpha) {
+        double scale = Math.min(1.0, (double) box / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        do {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = Math.max(targetHeight, current.getHeight() / 2);
+            current = draw(current, width, height, alpha);
+        } while (current.getWidth() > targetWidth || current.getHeight() > targetHeight);
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!alpha) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image, boolean alpha) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private String store(byte[] bytes) throws IOException {
+        return storageBackend.store(new ByteArrayInputStream(bytes)).getKey();
+    }
+}
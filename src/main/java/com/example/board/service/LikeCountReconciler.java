@@ -0,0 +1,28 @@
+package com.example.board.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.board.repository.BoardRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// board.like_count가 board_like와 어긋난 경우 (수동 데이터 수정, 장애 등) 주기적으로 보정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+	private final BoardRepository boardRepository;
+	
+	@Transactional
+	@Scheduled(cron = "${board.like.reconcile-cron:0 0 4 * * *}")
+	public int reconcile() {
+		int repaired = boardRepository.reconcileLikeCounts();
+		if(repaired > 0) {
+			log.warn("좋아요 수 보정: {}개 게시글", repaired);
+		}
+		return repaired;
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.board.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.board.cache.SharedCache;
+import com.example.board.datasource.ReplicaRouting;
+import com.example.board.repository.BoardLikeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// "이 사용자가 이 게시글에 좋아요를 눌렀는가"를 DB 조회 없이 답하기 위한 캐시
+// 게시글마다 좋아요한 사용자 id를 RoaringBitmap으로 들고 있고, 게시글 수를 제한한다.
+// 토글은 처리한 서버의 비트맵에만 반영되므로, 공유 캐시(Redis)가 있으면 다른 서버에는 그 게시글 항목을 지우도록 알리고
+// 메시지를 놓치거나 Redis가 없어도 ttl이 지나면 DB에서 다시 읽는다.
+@Component
+public class LikeMembershipCache {
+	private static final String CACHE_NAME = "like.membership";
+
+	private final BoardLikeRepository boardLikeRepository;
+	private final TransactionTemplate loadTransaction;
+	private final SharedCache sharedCache;
+
+	// 캐시된 비트맵은 읽기 전용으로 공유하고, 토글 때는 복사본을 바꿔 통째로 교체한다.
+	// 로딩/토글/제거는 게시글(key) 단위로만 직렬화된다.
+	private final Cache<Long, RoaringBitmap> bitmaps;
+
+	public LikeMembershipCache(BoardLikeRepository boardLikeRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${board.like.membership-cache-size:100000}") int maxBoards,
+			@Value("${board.like.membership-cache-ttl:10m}") Duration ttl,
+			ObjectProvider<SharedCache> sharedCacheProvider) {
+		this.boardLikeRepository = boardLikeRepository;
+		this.bitmaps = Caffeine.newBuilder()
+				.maximumSize(maxBoards)
+				.expireAfterWrite(ttl)
+				.build();
+		this.sharedCache = sharedCacheProvider.getIfAvailable();
+		if(sharedCache != null) {
+			// 자기가 보낸 메시지도 받지만 다시 로딩될 뿐이라 그대로 둠
+			sharedCache.subscribeInvalidation((cacheName, keys) -> {
+				if(CACHE_NAME.equals(cacheName)) {
+					for(String boardId : keys) {
+						bitmaps.invalidate(Long.valueOf(boardId));
+					}
+				}
+			});
+		}
+		// 호출한 쪽 트랜잭션(REPEATABLE READ 스냅샷)과 무관하게 최신 커밋을 읽도록 별도 트랜잭션에서 로딩
+		this.loadTransaction = new TransactionTemplate(transactionManager);
+		this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.loadTransaction.setReadOnly(true);
+	}
+
+	public boolean isLiked(Long boardId, Long userId) {
+		// 비트맵은 int 범위만 담을 수 있음 (범위 밖 사용자는 항상 DB 조회)
+		if(userId > Integer.MAX_VALUE) {
+			return boardLikeRepository.existsByUserIdAndBoardId(userId, boardId);
+		}
+		return bitmaps.get(boardId, this::load).contains(userId.intValue());
+	}
+
+	// 좋아요 토글이 커밋된 후 호출
+	// 같은 게시글을 로딩 중이면 로딩이 끝난 뒤 그 결과에 반영된다.
+	public void onToggle(Long boardId, Long userId, boolean liked) {
+		if(userId > Integer.MAX_VALUE) {
+			return;
+		}
+		bitmaps.asMap().computeIfPresent(boardId, (id, bitmap) -> {
+			RoaringBitmap copy = bitmap.clone();
+			if(liked) {
+				copy.add(userId.intValue());
+			} else {
+				copy.remove(userId.intValue());
+			}
+			return copy;
+		});
+		publishInvalidation(boardId);
+	}
+
+	public void evict(Long boardId) {
+		bitmaps.invalidate(boardId);
+		publishInvalidation(boardId);
+	}
+
+	private void publishInvalidation(Long boardId) {
+		if(sharedCache != null) {
+			sharedCache.publishInvalidation(CACHE_NAME, List.of(String.valueOf(boardId)));
+		}
+	}
+
+	private RoaringBitmap load(Long boardId) {
+		// 캐시에 오래 남으므로 복제 지연이 없는 primary에서 읽음
+		List<Long> userIds = ReplicaRouting.onPrimary(() ->
+				loadTransaction.execute(status -> boardLikeRepository.findUserIdsByBoardId(boardId)));
+
+		RoaringBitmap bitmap = new RoaringBitmap();
+		for(Long userId : userIds) {
+			if(userId <= Integer.MAX_VALUE) {
+				bitmap.add(userId.intValue());
+			}
+		}
+		bitmap.runOptimize();
+		return bitmap;
+	}
+}
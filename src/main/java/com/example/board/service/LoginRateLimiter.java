@@ -0,0 +1,100 @@
+package com.example.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// 로그인 시도 제한 (IP+아이디별, IP별 토큰 버킷)
+// 사용자 조회와 해시 계산 전에 확인해서, 한 아이디에 대한 대입 공격이나 한 IP의 대량 시도를 싸게 걸러낸다.
+// 아이디 버킷을 IP와 묶어 두므로 다른 IP에서 남의 아이디로 실패를 쌓아도 본인의 로그인은 막히지 않고,
+// 로그인에 성공하면 그 IP+아이디 버킷은 다시 가득 찬다.
+// IP는 request.getRemoteAddr() (신뢰하는 프록시 뒤라면 server.forward-headers-strategy로 실제 클라이언트 IP)
+// 버킷은 capacity개까지 모아 둘 수 있고 refill-period마다 capacity개가 (고르게) 다시 찬다.
+// 가득 찰 만큼 쓰이지 않은 key는 캐시에서 빠지므로 메모리는 max-keys로 제한된다.
+@Component
+public class LoginRateLimiter {
+    private final Limit usernameLimit;
+    private final Limit ipLimit;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter usernameThrottled;
+    private final Counter ipThrottled;
+
+    public LoginRateLimiter(@Value("${board.login.rate-limit.ip-username.capacity:5}") int usernameCapacity,
+                            @Value("${board.login.rate-limit.ip-username.refill-period:1m}") Duration usernamePeriod,
+                            @Value("${board.login.rate-limit.ip.capacity:30}") int ipCapacity,
+                            @Value("${board.login.rate-limit.ip.refill-period:1m}") Duration ipPeriod,
+                            @Value("${board.login.rate-limit.max-keys:100000}") long maxKeys,
+                            MeterRegistry registry) {
+        this.usernameLimit = new Limit(usernameCapacity, usernamePeriod);
+        this.ipLimit = new Limit(ipCapacity, ipPeriod);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(usernamePeriod.compareTo(ipPeriod) > 0 ? usernamePeriod : ipPeriod)
+                .build();
+        this.usernameThrottled = Counter.builder("board.login.throttled").tag("key", "ip-username").register(registry);
+        this.ipThrottled = Counter.builder("board.login.throttled").tag("key", "ip").register(registry);
+    }
+
+    // 시도할 수 있으면 토큰을 하나씩 쓰고 true
+    public boolean tryAcquire(String username, String ip) {
+        long now = System.nanoTime();
+        if (!bucket("ip:" + ip, ipLimit).tryConsume(now)) {
+            ipThrottled.increment();
+            return false;
+        }
+        if (!bucket(usernameKey(username, ip), usernameLimit).tryConsume(now)) {
+            usernameThrottled.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // 로그인 성공: 그 IP에서 그 아이디로 실패한 기록은 지움 (IP 버킷은 그대로)
+    public void reset(String username, String ip) {
+        buckets.invalidate(usernameKey(username, ip));
+    }
+
+    private static String usernameKey(String username, String ip) {
+        return "user:" + ip + "/" + username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private TokenBucket bucket(String key, Limit limit) {
+        return buckets.get(key, ignored -> new TokenBucket(limit));
+    }
+
+    private record Limit(int capacity, Duration refillPeriod) {
+        double tokensPerNano() {
+            return (double) capacity / refillPeriod.toNanos();
+        }
+    }
+
+    private static class TokenBucket {
+        private final Limit limit;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(Limit limit) {
+            this.limit = limit;
+            this.tokens = limit.capacity();
+            this.refilledAt = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(limit.capacity(), tokens + (now - refilledAt) * limit.tokensPerNano());
+                refilledAt = now;
+            }
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.board.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 비밀번호 해시 계산(bcrypt/argon2)은 요청 스레드가 아니라 크기가 정해진 전용 스레드 풀에서 실행
+// 로그인이 몰려도 해시 계산에 쓰는 CPU는 pool-size개로 제한되고, 큐가 차면 바로 거절한다 (BUSY_MESSAGE).
+// - board.password.hash: 계산 시간 (op=matches/encode)
+// - board.password.hash.wait: 큐에서 기다린 시간
+// - executor.queued / executor.active (name=passwordHashExecutor): 큐 길이, 실행 중인 작업 수
+@Component
+public class PasswordHasher {
+    public static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor executor;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Timer waitTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") Executor executor,
+                          MeterRegistry registry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.matchesTimer = Timer.builder("board.password.hash").tag("op", "matches").register(registry);
+        this.encodeTimer = Timer.builder("board.password.hash").tag("op", "encode").register(registry);
+        this.waitTimer = Timer.builder("board.password.hash.wait").register(registry);
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 회원가입, 비밀번호 변경처럼 드문 요청은 결과를 기다림 (계산은 같은 풀에서)
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return join(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return join(encodeAsync(rawPassword));
+    }
+
+    // 설정된 방식/비용보다 약하게 저장된 해시인지 (해시 계산 없음)
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 해시 스레드 풀이 가득 차서 거절된 실패인지
+    public static boolean isBusy(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RejectedExecutionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new RuntimeException(BUSY_MESSAGE, e));
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
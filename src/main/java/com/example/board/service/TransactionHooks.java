@@ -0,0 +1,25 @@
+package com.example.board.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 커밋 이후에 실행해야 하는 후처리 (인덱스/캐시 갱신 등)
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 밖이면 바로 실행
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,41 +1,68 @@
 package com.example.board.service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import com.example.board.controller.BoardController;
 import com.example.board.entity.User;
 import com.example.board.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
 	
 	public User register(User user) {
 		if(userRepository.existsByUsername(user.getUsername())) {
 			throw new RuntimeException("Already Exists username");
 			
 		}
-		String encodedPassword = passwordEncoder.encode(user.getPassword());
+		String encodedPassword = passwordHasher.encode(user.getPassword());
 		user.setPassword(encodedPassword);
 		
 		return userRepository.save(user);
 	}
 	
-	public User login(String username, String password) {
+	// 해시 비교는 PasswordHasher 스레드에서 하고 요청 스레드는 바로 돌려줌 (실패하면 null)
+	// 예전 방식/비용으로 저장된 해시는 로그인에 성공했을 때 지금 설정으로 다시 해시해서 저장
+	public CompletableFuture<User> login(String username, String password) {
 		User user = userRepository.findByUsername(username).orElse(null);
 		
-		if (user == null || !passwordEncoder.matches(password, user.getPassword())) {
-	        return null;
-	    }
-	    
-	    return user;
+		if (user == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		
+		String stored = user.getPassword();
+		return passwordHasher.matchesAsync(password, stored).thenCompose(matched -> {
+			if (!matched) {
+				return CompletableFuture.completedFuture(null);
+			}
+			if (!passwordHasher.upgradeEncoding(stored)) {
+				return CompletableFuture.completedFuture(user);
+			}
+			return passwordHasher.encodeAsync(password)
+					.thenApply(encoded -> {
+						userRepository.updatePassword(user.getId(), stored, encoded);
+						user.setPassword(encoded);
+						return user;
+					})
+					// 재해시는 다음 로그인 때 다시 시도하면 되므로 실패해도 로그인은 성공
+					.exceptionally(e -> {
+						log.warn("비밀번호 재해시 실패: userId={}", user.getId(), e);
+						return user;
+					});
+		});
+	}
+	
+	public User findById(Long userId) {
+		return userRepository.findById(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 	}
 	
 	public User updateProfile(Long userId, String name, String eamil) {
@@ -50,8 +77,8 @@ public class UserService {
 	public boolean changePassword (Long userId, String currentPassword, String newPassword) {
 		User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 		
-		if(passwordEncoder.matches(currentPassword, user.getPassword())) {
-			user.setPassword(passwordEncoder.encode(newPassword));
+		if(passwordHasher.matches(currentPassword, user.getPassword())) {
+			user.setPassword(passwordHasher.encode(newPassword));
 			userRepository.save(user);
 			return true;
 		} else {
@@ -62,7 +89,7 @@ public class UserService {
 	public boolean deleteAccount(Long userId, String password) {
 		User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 		
-		if(passwordEncoder.matches(password, user.getPassword())) {
+		if(passwordHasher.matches(password, user.getPassword())) {
 			userRepository.delete(user);
 			return true;
 		} else {
@@ -0,0 +1,207 @@
+package com.example.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 조회수 증가를 메모리에 모아 두었다가 주기적으로 한 번에 반영 (write-behind)
+// 화면에 보여줄 조회수 = 마지막으로 아는 DB 값(knownCounts) + 아직 반영하지 않은 증가분
+// 게시글/목록 캐시에 든 조회수는 쓰지 않으므로 반영할 때 그 캐시들을 지우지 않는다.
+@Slf4j
+@Component
+public class ViewCountAggregator {
+    private static final String FLUSH_SQL = "UPDATE board SET view_count = view_count + ? WHERE id = ?";
+    private static final String SELECT_SQL = "SELECT id, view_count FROM board WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 id -> 아직 DB에 반영되지 않은 조회수
+    // 반영이 끝나 0이 된 항목은 지워서 한 번이라도 조회된 게시글 수만큼 계속 늘어나지 않도록 함
+    private final Map<Long, PendingViews> pending = new ConcurrentHashMap<>();
+
+    // 게시글 id -> DB의 view_count (이 서버가 반영할 때마다 그 자리에서 더함)
+    // 다른 서버가 반영한 증가분은 TTL이 지나 다시 읽을 때 보인다.
+    private final Cache<Long, Long> knownCounts;
+
+    // 반영 중이면 홀수 (seqlock): DB 값을 읽는 동안 반영이 겹쳤으면 그 값은 기억하지 않음
+    private final AtomicLong flushStamp = new AtomicLong();
+
+    public ViewCountAggregator(JdbcTemplate jdbcTemplate,
+                               @Value("${board.view-count.known-max-size:100000}") long knownMaxSize,
+                               @Value("${board.view-count.known-ttl:30s}") Duration knownTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.knownCounts = Caffeine.newBuilder()
+                .maximumSize(knownMaxSize)
+                .expireAfterWrite(knownTtl)
+                .build();
+    }
+
+    public void increment(Long boardId) {
+        // 지워지는 중인 항목에 더했으면 새 항목에 다시 더함
+        while (!pending.computeIfAbsent(boardId, id -> new PendingViews()).tryIncrement()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // DB 값에 더해서 보여줄 미반영 조회수 (방금 DB에서 읽은 값에 더할 때)
+    public long pendingCount(Long boardId) {
+        PendingViews views = pending.get(boardId);
+        return views == null ? 0 : views.sum();
+    }
+
+    // 보여줄 조회수 (캐시된 게시글처럼 DB 값이 낡았을 수 있을 때)
+    public long viewCount(Long boardId) {
+        return viewCounts(List.of(boardId)).getOrDefault(boardId, 0L);
+    }
+
+    // 여러 게시글의 보여줄 조회수 (모르는 DB 값은 한 번의 IN 조회로 읽음, 없는 게시글은 빠짐)
+    public Map<Long, Long> viewCounts(Collection<Long> boardIds) {
+        Map<Long, Long> known = new HashMap<>(knownCounts.getAllPresent(boardIds));
+        List<Long> missing = boardIds.stream().filter(id -> !known.containsKey(id)).distinct().toList();
+        if (!missing.isEmpty()) {
+            known.putAll(load(missing));
+        }
+        known.replaceAll((id, count) -> count + pendingCount(id));
+        return known;
+    }
+
+    // 반영 시점 표시 (DB에서 조회수를 읽기 전에 받아 remember에 넘김)
+    public long stamp() {
+        return flushStamp.get();
+    }
+
+    // DB에서 막 읽은 조회수를 기억 (캐시를 채우는 조회에서 호출, 추가 SQL 없이 이후 요청에서 사용)
+    public void remember(long stamp, Map<Long, Long> counts) {
+        // 읽는 동안 반영이 있었으면 읽은 값에 그 증가분이 들어 있는지 알 수 없으므로 버림
+        if ((stamp & 1) != 0 || stamp != flushStamp.get()) {
+            return;
+        }
+        counts.forEach(knownCounts.asMap()::putIfAbsent);
+        // 넣는 사이 반영이 시작되었으면 더하기를 놓쳤을 수 있으므로 지움
+        if (stamp != flushStamp.get()) {
+            knownCounts.invalidateAll(counts.keySet());
+        }
+    }
+
+    private Map<Long, Long> load(List<Long> boardIds) {
+        long stamp = stamp();
+        String placeholders = String.join(",", Collections.nCopies(boardIds.size(), "?"));
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_SQL, placeholders),
+                rs -> {
+                    counts.put(rs.getLong(1), rs.getLong(2));
+                },
+                boardIds.toArray());
+        remember(stamp, counts);
+        return counts;
+    }
+
+    // 테스트용: 메모리에 남아 있는 게시글 수
+    int pendingBoards() {
+        return pending.size();
+    }
+
+    // 삭제된 게시글의 미반영 조회수는 버림
+    public void discard(Long boardId) {
+        pending.remove(boardId);
+        knownCounts.invalidate(boardId);
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<PendingViews> adders = new ArrayList<>();
+
+        for (Map.Entry<Long, PendingViews> entry : pending.entrySet()) {
+            PendingViews adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                // 지난 주기에 반영했고 그 뒤로 조회가 없던 게시글
+                if (adder.retire()) {
+                    pending.remove(entry.getKey(), adder);
+                }
+                continue;
+            }
+            batch.add(new Object[] { delta, entry.getKey() });
+            adders.add(adder);
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        flushStamp.incrementAndGet();
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+
+            // 아는 DB 값에 먼저 더하고 미반영분에서 뺌 (그 사이 읽으면 잠깐 많게 보일 뿐 줄어 보이지는 않음)
+            // sumThenReset()은 동시 증가분을 잃을 수 있으므로 읽은 만큼만 차감
+            for (int i = 0; i < batch.size(); i++) {
+                long delta = (Long) batch.get(i)[0];
+                knownCounts.asMap().computeIfPresent((Long) batch.get(i)[1], (id, count) -> count + delta);
+                adders.get(i).add(-delta);
+            }
+        } catch (RuntimeException e) {
+            // 미반영분을 그대로 두고 다음 주기에 다시 시도
+            log.warn("조회수 반영 실패, 다음 주기에 재시도합니다. ({}건)", batch.size(), e);
+        } finally {
+            flushStamp.incrementAndGet();
+        }
+    }
+
+    // 게시글 하나의 미반영 조회수
+    // 0일 때만 RETIRED로 바꿔(CAS) 지우므로, 지워진 항목에 증가분이 남아 사라지거나
+    // 되돌려질 증가분이 잠깐 보여 두 번 반영되는 일이 없다.
+    private static class PendingViews {
+        private static final long RETIRED = Long.MIN_VALUE;
+
+        private final AtomicLong count = new AtomicLong();
+
+        boolean tryIncrement() {
+            long current;
+            do {
+                current = count.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+            } while (!count.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        // 0이면 더 이상 증가를 받지 않도록 표시하고 true
+        boolean retire() {
+            return count.compareAndSet(0, RETIRED);
+        }
+
+        long sum() {
+            long current = count.get();
+            return current == RETIRED ? 0 : current;
+        }
+
+        // 반영한 만큼 차감 (0이 아니었던 항목에 같은 flush 안에서만 호출되므로 RETIRED가 아님)
+        void add(long delta) {
+            count.addAndGet(delta);
+        }
+    }
+
+    // 정상 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.board.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// 최대 limit 바이트까지만 읽는 스트림 (Range 구간 읽기용)
+class BoundedInputStream extends FilterInputStream {
+	private long remaining;
+
+	BoundedInputStream(InputStream in, long limit) {
+		super(in);
+		this.remaining = limit;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (remaining <= 0) {
+			return -1;
+		}
+		int b = super.read();
+		if (b >= 0) {
+			remaining--;
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] buffer, int off, int len) throws IOException {
+		if (remaining <= 0) {
+			return -1;
+		}
+		int n = super.read(buffer, off, (int) Math.min(len, remaining));
+		if (n > 0) {
+			remaining -= n;
+		}
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(Math.min(n, remaining));
+		remaining -= skipped;
+		return skipped;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (int) Math.min(super.available(), remaining);
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+}
@@ -0,0 +1,46 @@
+package com.example.board.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 스트림을 임시 파일로 복사하면서 SHA-256을 계산 (파일을 두 번 읽지 않도록)
+final class ContentHasher {
+
+	private ContentHasher() {
+	}
+
+	static StoredBlob copyAndHash(InputStream in, Path target) throws IOException {
+		MessageDigest digest = sha256();
+		long size;
+		try (OutputStream out = new DigestOutputStream(Files.newOutputStream(target), digest)) {
+			size = in.transferTo(out);
+		}
+		return new StoredBlob(HexFormat.of().formatHex(digest.digest()), size);
+	}
+
+	// ab/cd/abcd... 형태로 디렉토리를 나눠서 한 디렉토리에 파일이 몰리지 않게 함
+	static String shardedPath(String key) {
+		return key.substring(0, 2) + "/" + key.substring(2, 4) + "/" + key;
+	}
+
+	static void checkKey(String key) {
+		if (key == null || !key.matches("[0-9a-f]{64}")) {
+			throw new IllegalArgumentException("잘못된 저장소 key입니다: " + key);
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
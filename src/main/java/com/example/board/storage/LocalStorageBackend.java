@@ -0,0 +1,79 @@
+package com.example.board.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 로컬 디스크 저장소: {root}/ab/cd/{sha256}
+@Component
+@ConditionalOnProperty(name = "board.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalStorageBackend implements StorageBackend {
+	private final Path root;
+	private final Path tmp;
+
+	public LocalStorageBackend(@Value("${board.storage.local.root:./data/upload}") String root) throws IOException {
+		this.root = Paths.get(root).toAbsolutePath().normalize();
+		// 같은 파일시스템 안에서 rename 하도록 임시 디렉토리도 root 아래에 둠
+		this.tmp = Files.createDirectories(this.root.resolve(".tmp"));
+	}
+
+	@Override
+	public StoredBlob store(InputStream in) throws IOException {
+		Path temp = Files.createTempFile(tmp, "upload-", ".part");
+		try {
+			StoredBlob blob = ContentHasher.copyAndHash(in, temp);
+			Path target = resolve(blob.getKey());
+			if (Files.exists(target)) {
+				return blob;  // 같은 내용이 이미 있음 (중복 제거)
+			}
+			Files.createDirectories(target.getParent());
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+			} catch (FileAlreadyExistsException e) {
+				// 동시에 같은 파일이 올라온 경우
+			}
+			return blob;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Override
+	public InputStream open(String key, long offset, long length) throws IOException {
+		FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+		channel.position(offset);
+		return new BoundedInputStream(Channels.newInputStream(channel), length);
+	}
+
+	@Override
+	public Optional<Path> localPath(String key) {
+		return Optional.of(resolve(key));
+	}
+
+	@Override
+	public boolean exists(String key) {
+		return Files.exists(resolve(key));
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		Files.deleteIfExists(resolve(key));
+	}
+
+	private Path resolve(String key) {
+		ContentHasher.checkKey(key);
+		return root.resolve(ContentHasher.shardedPath(key));
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.board.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+// S3 호환 저장소 (AWS S3, MinIO 등)
+// 로컬에서는 MinIO를 띄우고 board.storage.s3.endpoint=http://localhost:9000 으로 테스트할 수 있다.
+@Component
+@ConditionalOnProperty(name = "board.storage.type", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+	private final S3Client s3;
+	private final String bucket;
+	private final String prefix;
+
+	public S3StorageBackend(
+			@Value("${board.storage.s3.endpoint:}") String endpoint,
+			@Value("${board.storage.s3.region:us-east-1}") String region,
+			@Value("${board.storage.s3.bucket}") String bucket,
+			@Value("${board.storage.s3.prefix:attachments/}") String prefix,
+			@Value("${board.storage.s3.access-key:}") String accessKey,
+			@Value("${board.storage.s3.secret-key:}") String secretKey,
+			@Value("${board.storage.s3.path-style:true}") boolean pathStyle) {
+		S3ClientBuilder builder = S3Client.builder()
+				.httpClientBuilder(UrlConnectionHttpClient.builder())
+				.region(Region.of(region))
+				.forcePathStyle(pathStyle)
+				.credentialsProvider(accessKey.isEmpty()
+						? DefaultCredentialsProvider.create()
+						: StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+		if (!endpoint.isEmpty()) {
+			builder.endpointOverride(URI.create(endpoint));
+		}
+		this.s3 = builder.build();
+		this.bucket = bucket;
+		this.prefix = prefix;
+	}
+
+	// 테스트용: 준비된 클라이언트 사용
+	S3StorageBackend(S3Client s3, String bucket, String prefix) {
+		this.s3 = s3;
+		this.bucket = bucket;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public StoredBlob store(InputStream in) throws IOException {
+		// key(해시)를 알아야 올릴 수 있으므로 임시 파일에 받으면서 해시 계산
+		Path temp = Files.createTempFile("upload-", ".part");
+		try {
+			StoredBlob blob = ContentHasher.copyAndHash(in, temp);
+			if (!exists(blob.getKey())) {
+				s3.putObject(b -> b.bucket(bucket).key(objectKey(blob.getKey())), RequestBody.fromFile(temp));
+			}
+			return blob;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Override
+	public InputStream open(String key, long offset, long length) throws IOException {
+		if (length <= 0) {
+			return InputStream.nullInputStream();
+		}
+		try {
+			return s3.getObject(b -> b.bucket(bucket).key(objectKey(key))
+					.range("bytes=" + offset + "-" + (offset + length - 1)));
+		} catch (NoSuchKeyException e) {
+			throw new IOException("저장소에 파일이 없습니다: " + key, e);
+		}
+	}
+
+	@Override
+	public Optional<Path> localPath(String key) {
+		return Optional.empty();
+	}
+
+	@Override
+	public boolean exists(String key) {
+		try {
+			s3.headObject(b -> b.bucket(bucket).key(objectKey(key)));
+			return true;
+		} catch (S3Exception e) {
+			// HEAD 요청은 본문이 없어서 NoSuchKeyException 대신 404 S3Exception이 올 수 있음
+			if (e.statusCode() == 404) {
+				return false;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void delete(String key) {
+		s3.deleteObject(b -> b.bucket(bucket).key(objectKey(key)));
+	}
+
+	@PreDestroy
+	public void close() {
+		s3.close();
+	}
+
+	private String objectKey(String key) {
+		ContentHasher.checkKey(key);
+		return prefix + ContentHasher.shardedPath(key);
+	}
+}
@@ -0,0 +1,24 @@
+package com.example.board.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+// 첨부파일 실제 내용(blob) 저장소
+// 내용의 SHA-256 값을 key로 쓰기 때문에 같은 파일은 한 번만 저장된다.
+public interface StorageBackend {
+
+	// 스트림을 읽으면서 해시를 계산해 저장, 이미 같은 내용이 있으면 그대로 재사용
+	StoredBlob store(InputStream in) throws IOException;
+
+	// [offset, offset + length) 구간 읽기
+	InputStream open(String key, long offset, long length) throws IOException;
+
+	// 로컬 디스크에 있으면 그 경로 (sendfile/transferTo 용), 없으면 empty
+	Optional<Path> localPath(String key);
+
+	boolean exists(String key) throws IOException;
+
+	void delete(String key) throws IOException;
+}
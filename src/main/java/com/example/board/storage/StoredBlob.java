@@ -0,0 +1,12 @@
+package com.example.board.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 저장된 blob 정보 (key = SHA-256 hex)
+@Getter
+@RequiredArgsConstructor
+public class StoredBlob {
+	private final String key;
+	private final long size;
+}
@@ -0,0 +1,73 @@
+package com.example.board.view;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// 렌더링된 HTML 캐시
+// key에는 템플릿 조각 이름과 데이터 버전(게시글 id + 수정일, 페이지 번호 + 목록 내용 해시 등)이 들어가야 하며,
+// 데이터가 바뀌면 key가 바뀌므로 따로 지우지 않고 오래된 항목은 크기/TTL 제한으로 밀려난다.
+@Component
+public class FragmentCache {
+    private final ITemplateEngine templateEngine;
+    private final JakartaServletWebApplication application;
+    private final Cache<String, String> fragments;
+    private final Cache<String, byte[]> pages;
+
+    public FragmentCache(ITemplateEngine templateEngine,
+                         ServletContext servletContext,
+                         MeterRegistry registry,
+                         @Value("${board.fragment-cache.max-size:5000}") long maxSize,
+                         @Value("${board.fragment-cache.ttl:10m}") Duration ttl) {
+        this.templateEngine = templateEngine;
+        this.application = JakartaServletWebApplication.buildApplication(servletContext);
+        this.fragments = Caffeine.newBuilder().maximumSize(maxSize).expireAfterAccess(ttl).recordStats().build();
+        this.pages = Caffeine.newBuilder().maximumSize(maxSize).expireAfterAccess(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(registry, fragments, "board.fragments");
+        CaffeineCacheMetrics.monitor(registry, pages, "board.pages");
+    }
+
+    // 템플릿 조각 렌더링 (key가 null이면 캐시하지 않음)
+    public String fragment(String key, String template, String fragment, Map<String, Object> variables,
+                           HttpServletRequest request, HttpServletResponse response) {
+        if (key == null) {
+            return render(template, Set.of(fragment), variables, request, response);
+        }
+        return fragments.get(fragment + ":" + key,
+                k -> render(template, Set.of(fragment), variables, request, response));
+    }
+
+    // 화면 전체를 렌더링한 바이트 (로그인하지 않은 사용자처럼 모두에게 같은 화면일 때만)
+    public byte[] page(String key, String template, Supplier<Map<String, Object>> model,
+                       HttpServletRequest request, HttpServletResponse response) {
+        return pages.get(template + ":" + key,
+                k -> render(template, null, model.get(), request, response).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 캐시 key로 만든 약한 ETag
+    // key는 데이터 내용에서 나오므로 서버가 달라도 같고, 보낼 때 채우는 조회수는 넣지 않으므로 약한 ETag로 보낸다.
+    public String etag(String key) {
+        return "W/\"" + key + "\"";
+    }
+
+    private String render(String template, Set<String> selectors, Map<String, Object> variables,
+                          HttpServletRequest request, HttpServletResponse response) {
+        WebContext context = new WebContext(application.buildExchange(request, response), request.getLocale(), variables);
+        return templateEngine.process(template, selectors, context);
+    }
+}
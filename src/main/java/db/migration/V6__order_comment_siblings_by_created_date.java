@@ -0,0 +1,63 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import com.example.board.entity.Comment;
+
+// 댓글 path 구간을 id(8자리)에서 (작성 시각, id)(18자리)로 바꿈
+// 형제 댓글을 id가 아니라 작성 순서로 보여 주기 위함 (id는 서버별 블록이라 작성 순서와 다를 수 있음)
+// 36진수 변환을 Comment와 똑같이 해야 해서 SQL 대신 Java로, 부모를 먼저 바꾸도록 path 길이(깊이) 순서로 처리
+public class V6__order_comment_siblings_by_created_date extends BaseJavaMigration {
+	private static final int OLD_SEGMENT_LENGTH = 8;
+	private static final int BATCH = 1000;
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		Connection connection = context.getConnection();
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE comment MODIFY path VARCHAR("
+					+ Comment.PATH_SEGMENT_LENGTH * (Comment.MAX_DEPTH + 1) + ") NOT NULL");
+		}
+
+		// 게시글별 이전 path -> 새 path
+		Map<String, String> paths = new HashMap<>();
+		try (Statement select = connection.createStatement();
+				ResultSet rows = select.executeQuery(
+						"SELECT id, board_id, path, created_date FROM comment ORDER BY LENGTH(path), path");
+				PreparedStatement update = connection.prepareStatement("UPDATE comment SET path = ? WHERE id = ?")) {
+			int pending = 0;
+			while (rows.next()) {
+				long id = rows.getLong("id");
+				String boardId = rows.getString("board_id");
+				String oldPath = rows.getString("path");
+				String parent = oldPath.length() > OLD_SEGMENT_LENGTH
+						? paths.get(boardId + ":" + oldPath.substring(0, oldPath.length() - OLD_SEGMENT_LENGTH))
+						: "";
+				if (parent == null) {
+					throw new IllegalStateException("부모 댓글이 없는 답글입니다: " + id);
+				}
+				String newPath = parent + Comment.segment(rows.getTimestamp("created_date").toLocalDateTime(), id);
+				paths.put(boardId + ":" + oldPath, newPath);
+
+				update.setString(1, newPath);
+				update.setLong(2, id);
+				update.addBatch();
+				if (++pending == BATCH) {
+					update.executeBatch();
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				update.executeBatch();
+			}
+		}
+	}
+}
@@ -0,0 +1,94 @@
+-- 초기 스키마 (이전에 ddl-auto=create가 엔티티에서 만들던 테이블 + 조회용 인덱스)
+-- MySQL 8 기준, 테스트의 H2(MySQL 호환 모드)에서도 그대로 실행됨
+
+CREATE TABLE id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- next_val = 마지막으로 나눠 준 번호 (pooled-lo, 50개 단위)
+INSERT INTO id_generator (sequence_name, next_val) VALUES ('board', 0);
+INSERT INTO id_generator (sequence_name, next_val) VALUES ('comment', 0);
+INSERT INTO id_generator (sequence_name, next_val) VALUES ('board_file', 0);
+INSERT INTO id_generator (sequence_name, next_val) VALUES ('users', 0);
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL,
+    username    VARCHAR(20)  NOT NULL,
+    password    VARCHAR(100) NOT NULL,
+    name        VARCHAR(20)  NOT NULL,
+    email       VARCHAR(50)  NOT NULL,
+    create_date DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE board (
+    id                BIGINT       NOT NULL,
+    title             VARCHAR(200) NOT NULL,
+    content           TEXT         NOT NULL,
+    writer            VARCHAR(50)  NOT NULL,
+    created_date      DATETIME(6)  NOT NULL,
+    modified_date     DATETIME(6),
+    view_count        INTEGER      NOT NULL,
+    like_count        INTEGER      DEFAULT 0 NOT NULL,
+    comment_count     INTEGER      DEFAULT 0 NOT NULL,
+    attachment_status ENUM ('FAILED', 'NONE', 'PROCESSING', 'READY') DEFAULT 'NONE' NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 작성자별 / 작성일 정렬 목록 (InnoDB 보조 인덱스는 뒤에 id가 붙으므로 (writer, id) 순서로 읽힘)
+CREATE INDEX idx_board_writer ON board (writer);
+CREATE INDEX idx_board_created_date ON board (created_date);
+
+CREATE TABLE comment (
+    id           BIGINT      NOT NULL,
+    board_id     BIGINT,
+    path         VARCHAR(72) NOT NULL,
+    writer       VARCHAR(50) NOT NULL,
+    content      TEXT        NOT NULL,
+    created_date DATETIME(6) NOT NULL,
+    reply_count  INTEGER     DEFAULT 0 NOT NULL,
+    deleted      BIT         DEFAULT FALSE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_board FOREIGN KEY (board_id) REFERENCES board (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 댓글 페이지 / 답글 묶음 / 조상 답글 수 갱신이 모두 (board_id, path) 범위 하나
+CREATE INDEX idx_comment_board_path ON comment (board_id, path);
+
+CREATE TABLE board_file (
+    id                      BIGINT       NOT NULL,
+    board_id                BIGINT,
+    original_file_name      VARCHAR(200) NOT NULL,
+    storage_key             VARCHAR(64)  NOT NULL,
+    file_size               BIGINT       NOT NULL,
+    content_type            VARCHAR(100),
+    upload_date             DATETIME(6)  NOT NULL,
+    thumbnail_key           VARCHAR(64),
+    web_key                 VARCHAR(64),
+    derivative_content_type VARCHAR(100),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_board_file_board FOREIGN KEY (board_id) REFERENCES board (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX idx_board_file_board ON board_file (board_id);
+-- blob 참조 수 세기 (원본 / 썸네일 / 웹용 key 각각)
+CREATE INDEX idx_board_file_storage_key ON board_file (storage_key);
+CREATE INDEX idx_board_file_thumbnail_key ON board_file (thumbnail_key);
+CREATE INDEX idx_board_file_web_key ON board_file (web_key);
+
+CREATE TABLE board_like (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT,
+    board_id     BIGINT,
+    created_date DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_board_like_user_board UNIQUE (user_id, board_id),
+    CONSTRAINT fk_board_like_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_board_like_board FOREIGN KEY (board_id) REFERENCES board (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 게시글의 좋아요 사용자 목록 (LikeMembershipCache 로딩): 인덱스만 읽음
+CREATE INDEX idx_board_like_board_user ON board_like (board_id, user_id);
@@ -0,0 +1,154 @@
+-- 더미 데이터 50개 (페이징 테스트용, 이전 data.sql)
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (1, '첫 번째 게시글', '안녕하세요. 첫 번째 게시글입니다.', '홍길동', NOW(), 0);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (2, '스프링 부트 시작하기', '스프링 부트로 게시판을 만들어봅시다!', '김철수', NOW(), 5);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (3, 'JPA는 편리해요', 'JPA를 사용하면 SQL을 직접 작성하지 않아도 됩니다.', '이영희', NOW(), 12);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (4, 'Thymeleaf 템플릿', 'Thymeleaf로 화면을 만들 수 있어요.', '박민수', NOW(), 8);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (5, '게시판 프로젝트', '게시판 만들기 재미있네요!', '최지원', NOW(), 15);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (6, '데이터베이스 연동', 'MySQL과 연동하는 방법을 배웠습니다.', '정수진', NOW(), 3);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (7, 'CRUD 구현 완료', '생성, 조회, 수정, 삭제 기능을 모두 구현했어요.', '강동훈', NOW(), 20);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (8, '다음 단계는?', '이제 페이징과 검색 기능을 추가해볼까요?', '윤서연', NOW(), 7);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (9, '스프링은 강력해요', '스프링 프레임워크의 편리함을 느끼고 있습니다.', '임준호', NOW(), 11);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (10, '열 번째 게시글', '벌써 열 개의 게시글이 쌓였네요!', '송민지', NOW(), 25);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (11, '페이징 기능 추가', '페이징 기능을 구현하고 있어요.', '김민준', NOW(), 4);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (12, 'Pageable 인터페이스', 'Spring Data JPA의 Pageable은 정말 편리합니다.', '이서준', NOW(), 9);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (13, 'Page 객체 활용', 'Page 객체로 페이징 정보를 쉽게 다룰 수 있어요.', '박서연', NOW(), 6);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (14, '검색 기능 계획', '다음은 검색 기능을 추가할 예정입니다.', '최예준', NOW(), 14);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (15, 'Query Method', 'JPA의 Query Method는 신기해요!', '정하윤', NOW(), 18);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (16, 'Thymeleaf 반복문', 'th:each로 리스트를 쉽게 출력할 수 있네요.', '강시우', NOW(), 2);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (17, '페이지네이션 UI', '페이지 번호를 예쁘게 표시하고 싶어요.', '윤지호', NOW(), 10);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (18, 'Bootstrap 적용', '나중에 Bootstrap으로 꾸며볼 생각입니다.', '임수아', NOW(), 7);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (19, 'REST API도 만들까?', 'REST API 버전도 만들어보고 싶네요.', '송준서', NOW(), 13);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (20, '20개 돌파!', '더미 데이터가 20개를 넘었습니다!', '김도윤', NOW(), 21);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (21, 'Entity 설계', 'Entity 설계가 중요하다는 걸 배웠어요.', '이예은', NOW(), 5);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (22, 'Repository 계층', 'Repository만 만들어도 CRUD가 되다니!', '박지우', NOW(), 16);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (23, 'Service 계층', 'Service에서 비즈니스 로직을 처리합니다.', '최서윤', NOW(), 8);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (24, 'Controller 계층', 'Controller는 요청을 받아서 처리해요.', '정민재', NOW(), 11);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (25, 'MVC 패턴', 'Model-View-Controller 패턴을 배우는 중입니다.', '강하은', NOW(), 19);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (26, 'Lombok의 편리함', '@Getter, @Setter 어노테이션 짱!', '윤우진', NOW(), 3);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (27, '@Transactional', '트랜잭션 관리가 이렇게 쉬울 줄이야.', '임서현', NOW(), 12);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (28, 'Dirty Checking', 'Dirty Checking 개념이 신기해요.', '송지훈', NOW(), 6);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (29, 'Optional 활용', 'Optional로 null을 안전하게 처리합니다.', '김윤서', NOW(), 9);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (30, '30개 돌파!', '게시글이 30개를 넘었네요!', '이도현', NOW(), 24);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (31, 'MySQL 연동', 'MySQL과의 연동이 잘 되고 있어요.', '박채원', NOW(), 4);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (32, 'H2 vs MySQL', 'H2 대신 MySQL을 선택했습니다.', '최은우', NOW(), 15);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (33, 'application.properties', '설정 파일 작성이 중요해요.', '정시은', NOW(), 7);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (34, 'data.sql 활용', 'data.sql로 초기 데이터를 넣을 수 있어요.', '강민서', NOW(), 10);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (35, 'ddl-auto 옵션', 'create, update, validate 등의 옵션이 있네요.', '윤하준', NOW(), 13);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (36, 'Show SQL', 'show-sql 옵션으로 쿼리를 확인할 수 있어요.', '임지안', NOW(), 8);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (37, 'Format SQL', 'format_sql로 쿼리를 보기 좋게 출력합니다.', '송예준', NOW(), 5);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (38, 'Hibernate', 'Hibernate는 JPA의 구현체입니다.', '김서우', NOW(), 17);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (39, '영속성 컨텍스트', '영속성 컨텍스트 개념이 어렵네요.', '이지유', NOW(), 2);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (40, '1차 캐시', 'JPA는 1차 캐시를 제공합니다.', '박현우', NOW(), 11);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (41, '40개 돌파!', '게시글이 40개를 넘었습니다!', '최수아', NOW(), 22);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (42, '변경 감지', '변경 감지 기능이 편리해요.', '정민준', NOW(), 6);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (43, '지연 로딩', '지연 로딩과 즉시 로딩에 대해 공부 중입니다.', '강지원', NOW(), 14);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (44, '프록시', 'JPA 프록시 개념을 이해하려고 노력 중이에요.', '윤도윤', NOW(), 9);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (45, 'N+1 문제', 'N+1 문제를 조심해야 한다고 들었어요.', '임서진', NOW(), 18);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (46, 'Fetch Join', 'Fetch Join으로 N+1 문제를 해결할 수 있대요.', '송지안', NOW(), 3);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (47, '@Query 어노테이션', '@Query로 직접 쿼리를 작성할 수도 있어요.', '김태윤', NOW(), 12);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (48, 'JPQL', 'JPQL은 객체 지향 쿼리 언어입니다.', '이하린', NOW(), 7);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (49, 'QueryDSL', 'QueryDSL도 나중에 배워보고 싶어요.', '박준혁', NOW(), 16);
+
+INSERT INTO board (id, title, content, writer, created_date, view_count)
+VALUES (50, '50개 달성!', '드디어 게시글 50개를 채웠습니다!', '최지율', NOW(), 28);
+
+-- id를 직접 넣었으므로 id_generator에 마지막으로 쓴 번호를 맞춰 둠 (다음 글은 51번부터)
+UPDATE id_generator SET next_val = 50 WHERE sequence_name = 'board';
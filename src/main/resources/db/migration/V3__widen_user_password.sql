@@ -0,0 +1,2 @@
+-- 비밀번호 해시에 방식 접두사({bcrypt}, {argon2})가 붙고 argon2 해시는 100자를 넘으므로 넓힘
+ALTER TABLE users MODIFY password VARCHAR(255) NOT NULL;
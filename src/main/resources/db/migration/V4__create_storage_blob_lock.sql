@@ -0,0 +1,7 @@
+-- 내용 해시(blob)별 잠금 행
+-- "참조 수를 세고 0이면 blob 삭제"와 "같은 내용을 다시 올려 참조 행 추가"가 겹치지 않도록
+-- 두 쪽 모두 이 행을 SELECT ... FOR UPDATE로 잠근 뒤 진행한다. (blob이 지워질 때 함께 지움)
+CREATE TABLE storage_blob_lock (
+    storage_key VARCHAR(64) NOT NULL,
+    PRIMARY KEY (storage_key)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
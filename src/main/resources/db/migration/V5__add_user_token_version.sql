@@ -0,0 +1,3 @@
+-- 로그인 토큰 세대: 토큰에 발급 당시 값을 넣고, 로그아웃/비밀번호 변경/탈퇴 때 1 올려 이전 토큰을 모두 무효화
+-- (재시작이나 캐시 유실과 관계없이 유지되도록 DB에 둔다. 엔티티에는 매핑하지 않음)
+ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- 파생본을 만들 수 없는 이미지 (읽을 수 있는 ImageReader가 없거나 max-pixels 초과)
+-- 결과를 남겨서 주기적 재등록(sweepPending)이 같은 파일을 매번 다시 내려받지 않도록
+ALTER TABLE board_file ADD COLUMN derivative_skipped BIT DEFAULT FALSE NOT NULL;
@@ -0,0 +1,3 @@
+-- 업로드 도중 서버가 종료되어 PROCESSING으로 남은 게시글 찾기 (AttachmentUploader.sweepStaging)
+-- PROCESSING인 행은 잠깐만 있으므로 이 인덱스 범위는 거의 비어 있음
+CREATE INDEX idx_board_attachment_status ON board (attachment_status, created_date);
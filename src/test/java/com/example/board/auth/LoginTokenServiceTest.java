@@ -0,0 +1,159 @@
+package com.example.board.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.board.cache.SharedCache;
+import com.example.board.entity.User;
+
+import jakarta.servlet.http.Cookie;
+
+class LoginTokenServiceTest {
+
+	private final TokenVersions tokenVersions = new TokenVersions();
+	private final LoginTokenService service = service("secret", Duration.ofHours(1));
+
+	@Test
+	void verifiesIssuedToken() {
+		LoginUser loginUser = service.verify(service.issue(user(7L, "홍길동")));
+
+		assertThat(loginUser.getId()).isEqualTo(7L);
+		assertThat(loginUser.getUsername()).isEqualTo("user7");
+		assertThat(loginUser.getName()).isEqualTo("홍길동");
+	}
+
+	@Test
+	void rejectsTamperedOrForeignToken() {
+		String token = service.issue(user(7L, "홍길동"));
+		String other = service.issue(user(8L, "다른 사용자"));
+		String swapped = other.substring(0, other.indexOf('.')) + token.substring(token.indexOf('.'));
+
+		assertThat(service.verify(swapped)).isNull();
+		assertThat(service.verify(token.substring(0, token.length() - 2))).isNull();
+		assertThat(service.verify("garbage")).isNull();
+		assertThat(service("another secret", Duration.ofHours(1)).verify(token)).isNull();
+	}
+
+	@Test
+	void rejectsExpiredToken() {
+		LoginTokenService expired = service("secret", Duration.ZERO);
+
+		assertThat(expired.verify(expired.issue(user(7L, "홍길동")))).isNull();
+	}
+
+	// 세대는 사용자 단위라 같은 사용자의 다른 기기 토큰도 함께 폐기
+	@Test
+	void logoutRevokesUserTokens() {
+		String token = service.issue(user(7L, "홍길동"));
+		String otherDevice = service.issue(user(7L, "홍길동"));
+		String otherUser = service.issue(user(8L, "다른 사용자"));
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie(LoginTokenService.COOKIE, token));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		service.logout(request, response);
+
+		assertThat(service.verify(token)).isNull();
+		assertThat(service.verify(otherDevice)).isNull();
+		assertThat(service.verify(otherUser)).isNotNull();
+		assertThat(response.getHeader("Set-Cookie")).contains("Max-Age=0");
+	}
+
+	@Test
+	void revokeAllRejectsEarlierTokensOnly() {
+		String before = service.issue(user(7L, "홍길동"));
+		String otherUser = service.issue(user(8L, "다른 사용자"));
+
+		service.revokeAll(7L);
+		String after = service.issue(user(7L, "홍길동"));
+
+		assertThat(service.verify(before)).isNull();
+		assertThat(service.verify(otherUser)).isNotNull();
+		assertThat(service.verify(after)).isNotNull();
+	}
+
+	// 폐기는 DB의 세대로 남으므로 캐시가 비어 있는 새 인스턴스(재시작)에서도 유지
+	@Test
+	void revocationSurvivesRestart() {
+		String before = service.issue(user(7L, "홍길동"));
+		service.revokeAll(7L);
+
+		LoginTokenService restarted = service("secret", Duration.ofHours(1));
+
+		assertThat(restarted.verify(before)).isNull();
+		assertThat(restarted.verify(restarted.issue(user(7L, "홍길동")))).isNotNull();
+	}
+
+	@Test
+	void rejectsTokenOfDeletedUser() {
+		String token = service.issue(user(7L, "홍길동"));
+		tokenVersions.versions.remove(7L);
+
+		assertThat(service("secret", Duration.ofHours(1)).verify(token)).isNull();
+	}
+
+	@Test
+	void blankSecretFailsOutsideDevProfiles() {
+		assertThatThrownBy(() -> service("", new MockEnvironment()))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> service("", environment("prod")))
+				.isInstanceOf(IllegalStateException.class);
+
+		LoginTokenService dev = service("", environment("dev"));
+		assertThat(dev.verify(dev.issue(user(7L, "홍길동")))).isNotNull();
+	}
+
+	private LoginTokenService service(String secret, Duration ttl) {
+		return new LoginTokenService(secret, ttl, 1000, Duration.ofMinutes(1), false, tokenVersions, new MockEnvironment(),
+				new StaticListableBeanFactory().getBeanProvider(SharedCache.class));
+	}
+
+	private LoginTokenService service(String secret, MockEnvironment environment) {
+		return new LoginTokenService(secret, Duration.ofHours(1), 1000, Duration.ofMinutes(1), false, tokenVersions, environment,
+				new StaticListableBeanFactory().getBeanProvider(SharedCache.class));
+	}
+
+	private static MockEnvironment environment(String profile) {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setActiveProfiles(profile);
+		return environment;
+	}
+
+	private static User user(Long id, String name) {
+		User user = new User();
+		user.setId(id);
+		user.setUsername("user" + id);
+		user.setName(name);
+		return user;
+	}
+
+	// users.token_version 대신 메모리 (사용자 7, 8만 있음)
+	private static class TokenVersions extends JdbcTemplate {
+		final Map<Long, Integer> versions = new HashMap<>(Map.of(7L, 0, 8L, 0));
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+			Integer version = versions.get((Long) args[0]);
+			return version == null ? List.of() : List.of((T) version);
+		}
+
+		@Override
+		public int update(String sql, Object... args) {
+			return versions.computeIfPresent((Long) args[0], (id, version) -> version + 1) == null ? 0 : 1;
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package com.example.board.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.example.board.dto.BoardSummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Redis 대신 메모리 공유 캐시로 서버 두 대를 흉내 내서 확인
+class TwoTierCacheTest {
+
+	private final InMemorySharedCache shared = new InMemorySharedCache();
+	private final TwoTierCache<String> serverA = newCache();
+	private final TwoTierCache<String> serverB = newCache();
+
+	@Test
+	void loadsOncePerServerAndSharesThroughSecondTier() {
+		AtomicInteger loads = new AtomicInteger();
+
+		assertThat(serverA.get("1", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+		assertThat(serverA.get("1", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+		// 서버 B는 로컬에 없지만 공유 캐시에서 읽음
+		assertThat(serverB.get("1", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void evictRemovesBothTiersOnEveryServer() {
+		AtomicInteger loads = new AtomicInteger();
+		serverA.get("1", () -> "v" + loads.incrementAndGet());
+		serverB.get("1", () -> "v" + loads.incrementAndGet());
+
+		serverA.evict("1");
+
+		assertThat(serverB.get("1", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+		assertThat(serverA.get("1", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void nullIsNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+		serverA.get("1", () -> {
+			loads.incrementAndGet();
+			return null;
+		});
+		serverA.get("1", () -> {
+			loads.incrementAndGet();
+			return null;
+		});
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void listPageSurvivesSerialization() {
+		TwoTierCache<Page<BoardSummary>> pagesA = newCache();
+		TwoTierCache<Page<BoardSummary>> pagesB = newCache();
+		PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+		BoardSummary summary = new BoardSummary(1L, "제목", "작성자", LocalDateTime.now(), 3);
+
+		pagesA.get("0", () -> new PageImpl<>(new ArrayList<>(List.of(summary)), pageable, 42));
+		Page<BoardSummary> page = pagesB.get("0", () -> null);
+
+		assertThat(page.getTotalElements()).isEqualTo(42);
+		assertThat(page.getContent()).singleElement()
+				.satisfies(board -> assertThat(board.getTitle()).isEqualTo("제목"));
+	}
+
+	// 로딩 도중 다른 서버가 지운 값은 공유 캐시에 넣지 않음
+	@Test
+	void staleLoadIsNotWrittenBackAfterInvalidation() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> load = CompletableFuture.supplyAsync(() -> serverA.get("1", () -> {
+			loading.countDown();
+			await(release);
+			return "old";
+		}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// B의 무효화 메시지는 A에서 로딩이 끝날 때까지 기다림
+		Thread evictor = new Thread(() -> serverB.evict("1"));
+		evictor.start();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (evictor.getState() == Thread.State.RUNNABLE || evictor.getState() == Thread.State.NEW) {
+			assertThat(System.currentTimeMillis()).isLessThan(deadline);
+			Thread.sleep(1);
+		}
+		release.countDown();
+		evictor.join(5000);
+
+		assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+		assertThat(shared.values).isEmpty();
+		assertThat(serverB.get("1", () -> "new")).isEqualTo("new");
+	}
+
+	// 무효화 메시지가 닿기 전에 다른 서버가 넣은 옛 값도 잠시 뒤 다시 지움
+	@Test
+	void lateWriteBackIsDeletedAgain() throws Exception {
+		TwoTierCache<String> cache = newCache(Duration.ofMillis(50));
+		cache.get("1", () -> "old");
+		byte[] stale = shared.values.values().iterator().next();
+
+		cache.evict("1");
+		shared.values.put("board:cache:test:1", stale);
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!shared.values.isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(shared.values).isEmpty();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private <V> TwoTierCache<V> newCache() {
+		return newCache(Duration.ofMinutes(1));
+	}
+
+	private <V> TwoTierCache<V> newCache(Duration redeleteDelay) {
+		TwoTierCache<V> cache = new TwoTierCache<>("test", 100, Duration.ofMinutes(1),
+				shared, Duration.ofMinutes(1), redeleteDelay, new SimpleMeterRegistry());
+		shared.subscribeInvalidation((name, keys) -> cache.evictLocal(keys));
+		return cache;
+	}
+
+	// Redis 대역: 값 저장 + 무효화 메시지를 모든 구독자에게 전달
+	static class InMemorySharedCache implements SharedCache {
+		private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+		private final List<BiConsumer<String, Collection<String>>> listeners = new CopyOnWriteArrayList<>();
+
+		@Override
+		public byte[] get(String key) {
+			return values.get(key);
+		}
+
+		@Override
+		public void put(String key, byte[] value, Duration ttl) {
+			values.put(key, value);
+		}
+
+		@Override
+		public void delete(Collection<String> keys) {
+			keys.forEach(values::remove);
+		}
+
+		@Override
+		public void publishInvalidation(String cacheName, Collection<String> keys) {
+			listeners.forEach(listener -> listener.accept(cacheName, keys));
+		}
+
+		@Override
+		public void subscribeInvalidation(BiConsumer<String, Collection<String>> listener) {
+			listeners.add(listener);
+		}
+	}
+}
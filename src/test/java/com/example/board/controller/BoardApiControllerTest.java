@@ -0,0 +1,180 @@
+package com.example.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import jakarta.servlet.http.Cookie;
+
+import com.example.board.auth.LoginTokenService;
+import com.example.board.entity.Board;
+import com.example.board.entity.User;
+import com.example.board.monitoring.QueryBudget;
+import com.example.board.monitoring.QueryCountFilter;
+import com.example.board.repository.BoardRepository;
+import com.example.board.repository.UserRepository;
+import com.example.board.service.CommentService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardApiControllerTest {
+
+	@Autowired
+	private WebApplicationContext context;
+	@Autowired
+	private FilterRegistrationBean<QueryCountFilter> queryCountFilter;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private LoginTokenService loginTokenService;
+	@Autowired
+	private CommentService commentService;
+
+	private MockMvc mockMvc;
+	private Cookie login;
+	private Long boardId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(queryCountFilter.getFilter()).build();
+
+		User user = new User();
+		user.setUsername("api" + System.nanoTime() % 1_000_000_000);
+		user.setPassword("password");
+		user.setName("api 사용자");
+		user.setEmail("api@example.com");
+		login = new Cookie(LoginTokenService.COOKIE, loginTokenService.issue(userRepository.save(user)));
+
+		Board board = new Board();
+		board.setTitle("API 테스트");
+		board.setContent("본문 ".repeat(200));
+		board.setWriter("작성자");
+		boardId = boardRepository.save(board).getId();
+	}
+
+	// 좋아요는 바뀐 값만 응답 (기존 방식: POST -> 리다이렉트 -> 상세 화면 전체)
+	@Test
+	void likeReturnsOnlyTheDelta() throws Exception {
+		byte[] delta = mockMvc.perform(post("/api/boards/{id}/like", boardId).cookie(login))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.liked").value(true))
+				.andExpect(jsonPath("$.likeCount").value(1))
+				.andExpect(QueryBudget.atMost(4))
+				.andReturn().getResponse().getContentAsByteArray();
+		mockMvc.perform(post("/api/boards/{id}/like", boardId).cookie(login))
+				.andExpect(jsonPath("$.liked").value(false))
+				.andExpect(jsonPath("$.likeCount").value(0));
+
+		mockMvc.perform(post("/board/{id}/like", boardId).cookie(login)).andExpect(status().is3xxRedirection());
+		byte[] page = mockMvc.perform(get("/board/detail/{id}", boardId).cookie(login))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		assertThat(delta.length * 10).isLessThan(page.length);
+	}
+
+	@Test
+	void writesAndDeletesCommentWithCount() throws Exception {
+		String body = "{\"content\": \"API 댓글\"}";
+		Number commentId = com.jayway.jsonpath.JsonPath.read(mockMvc.perform(post("/api/boards/{id}/comments", boardId)
+						.cookie(login).contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.comment.content").value("API 댓글"))
+				.andExpect(jsonPath("$.comment.writer").value("api 사용자"))
+				.andExpect(jsonPath("$.commentCount").value(1))
+				.andReturn().getResponse().getContentAsString(), "$.comment.id");
+
+		mockMvc.perform(get("/api/boards/{id}/comments", boardId))
+				.andExpect(jsonPath("$.content[0].id").value(commentId.longValue()))
+				.andExpect(jsonPath("$.totalElements").value(1));
+
+		mockMvc.perform(delete("/api/comments/{id}", commentId).cookie(login))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.comment").doesNotExist())
+				.andExpect(jsonPath("$.commentCount").value(0));
+	}
+
+	@Test
+	void mutationsRequireLogin() throws Exception {
+		mockMvc.perform(post("/api/boards/{id}/like", boardId)).andExpect(status().isUnauthorized());
+		mockMvc.perform(post("/api/boards/{id}/comments", boardId)
+						.contentType(MediaType.APPLICATION_JSON).content("{\"content\": \"댓글\"}"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	// 로그인은 세션을 만들지 않고 토큰 쿠키만 내려 주고, 로그아웃한 토큰은 더 이상 통하지 않음
+	@Test
+	void loginIssuesTokenCookieWithoutSession() throws Exception {
+		MvcResult result = mockMvc.perform(asyncDispatch(mockMvc.perform(post("/user/login")
+						.param("username", "tester").param("password", "wrong")).andReturn()))
+				.andExpect(status().is3xxRedirection())
+				.andReturn();
+		assertThat(result.getResponse().getCookie(LoginTokenService.COOKIE)).isNull();
+
+		mockMvc.perform(post("/api/boards/{id}/like", boardId).cookie(login)).andExpect(status().isOk());
+		result = mockMvc.perform(get("/user/logout").cookie(login)).andReturn();
+		assertThat(result.getRequest().getSession(false)).isNull();
+		assertThat(result.getResponse().getCookie(LoginTokenService.COOKIE).getMaxAge()).isZero();
+
+		mockMvc.perform(post("/api/boards/{id}/like", boardId).cookie(login)).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void readsListDetailAndFiles() throws Exception {
+		mockMvc.perform(get("/api/boards").param("size", "5"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(5))
+				.andExpect(jsonPath("$.nextCursor").isNotEmpty());
+		mockMvc.perform(get("/api/boards/{id}", boardId))
+				.andExpect(jsonPath("$.title").value("API 테스트"))
+				.andExpect(jsonPath("$.liked").value(false));
+		mockMvc.perform(get("/api/boards/{id}/files", boardId))
+				.andExpect(jsonPath("$.attachmentStatus").value("NONE"))
+				.andExpect(jsonPath("$.files").isEmpty());
+		mockMvc.perform(get("/api/boards/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+	}
+
+	// 도메인/입력 오류만 4xx, 그 밖의 예외는 500 + 고정 문구 (내부 메시지를 내보내지 않음)
+	@Test
+	void mapsErrorsToStatus() throws Exception {
+		Board other = new Board();
+		other.setTitle("다른 게시글");
+		other.setContent("본문");
+		other.setWriter("작성자");
+		Long otherComment = commentService.save(boardRepository.save(other).getId(), null, "작성자", "댓글").getId();
+		mockMvc.perform(post("/api/boards/{id}/comments", boardId).cookie(login).contentType(MediaType.APPLICATION_JSON)
+						.content("{\"content\": \"답글\", \"parentId\": " + otherComment + "}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.detail").value("다른 게시글의 댓글에는 답글을 달 수 없습니다."));
+		mockMvc.perform(get("/api/comments/{id}/replies", Long.MAX_VALUE)).andExpect(status().isNotFound());
+		mockMvc.perform(get("/api/boards/{id}", "abc")).andExpect(status().isBadRequest());
+		mockMvc.perform(post("/api/boards/{id}/comments", boardId)
+						.cookie(login).contentType(MediaType.APPLICATION_JSON).content("{"))
+				.andExpect(status().isBadRequest());
+
+		ResponseEntity<ProblemDetail> error = new ApiExceptionHandler()
+				.handleUnexpected(new IllegalStateException("jdbc:mysql://db:3306/board 연결 실패"));
+		assertThat(error.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+		assertThat(error.getBody().getDetail()).doesNotContain("jdbc");
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.board.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.board.entity.Board;
+import com.example.board.entity.BoardFile;
+import com.example.board.repository.BoardFileRepository;
+import com.example.board.repository.BoardRepository;
+import com.example.board.storage.StorageBackend;
+import com.example.board.storage.StoredBlob;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FileControllerTest {
+	private static final String BODY = "0123456789";
+
+	@Autowired
+	private WebApplicationContext context;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private BoardFileRepository boardFileRepository;
+	@Autowired
+	private StorageBackend storageBackend;
+
+	private MockMvc mockMvc;
+	private Long fileId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+		Board board = new Board();
+		board.setTitle("첨부 테스트");
+		board.setContent("본문");
+		board.setWriter("작성자");
+		board = boardRepository.save(board);
+
+		StoredBlob blob = storageBackend.store(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)));
+		BoardFile boardFile = new BoardFile();
+		boardFile.setBoard(board);
+		boardFile.setOriginalFileName("digits.txt");
+		boardFile.setStorageKey(blob.getKey());
+		boardFile.setFileSize(blob.getSize());
+		boardFile.setContentType("text/plain");
+		fileId = boardFileRepository.save(boardFile).getId();
+	}
+
+	@Test
+	void servesSingleRange() throws Exception {
+		mockMvc.perform(get("/board/file/download/{id}", fileId).header(HttpHeaders.RANGE, "bytes=2-4"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/10"))
+				.andExpect(content().string("234"));
+	}
+
+	// 문법이 틀린 Range는 무시하고 전체를 200으로
+	@Test
+	void ignoresMalformedRange() throws Exception {
+		for (String range : new String[] { "bytes=abc", "bytes=5-2", "items=0-1" }) {
+			mockMvc.perform(get("/board/file/download/{id}", fileId).header(HttpHeaders.RANGE, range))
+					.andExpect(status().isOk())
+					.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+					.andExpect(content().string(BODY));
+		}
+	}
+
+	// 문법은 맞지만 파일 밖이면 416
+	@Test
+	void rejectsUnsatisfiableRange() throws Exception {
+		mockMvc.perform(get("/board/file/download/{id}", fileId).header(HttpHeaders.RANGE, "bytes=20-30"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+	}
+
+	@Test
+	void forbidsContentSniffing() throws Exception {
+		mockMvc.perform(get("/board/file/download/{id}", fileId))
+				.andExpect(status().isOk())
+				.andExpect(header().string("X-Content-Type-Options", "nosniff"));
+	}
+}
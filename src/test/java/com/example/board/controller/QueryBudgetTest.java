@@ -0,0 +1,143 @@
+package com.example.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import jakarta.servlet.http.Cookie;
+
+import com.example.board.auth.LoginTokenService;
+import com.example.board.cache.BoardCache;
+import com.example.board.entity.Board;
+import com.example.board.entity.BoardFile;
+import com.example.board.entity.Comment;
+import com.example.board.entity.User;
+import com.example.board.monitoring.QueryBudget;
+import com.example.board.monitoring.QueryCountFilter;
+import com.example.board.repository.BoardFileRepository;
+import com.example.board.repository.BoardRepository;
+import com.example.board.service.CommentService;
+
+// 화면별 SQL 문 수 예산 (캐시가 비어 있을 때 기준)
+// 지연 로딩 컬렉션(Board.comments/files)을 화면에서 건드리는 등의 N+1이 생기면 실패한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryBudgetTest {
+
+	@Autowired
+	private WebApplicationContext context;
+	@Autowired
+	private FilterRegistrationBean<QueryCountFilter> queryCountFilter;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private BoardFileRepository boardFileRepository;
+	@Autowired
+	private CommentService commentService;
+	@Autowired
+	private BoardCache boardCache;
+	@Autowired
+	private LoginTokenService loginTokenService;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(queryCountFilter.getFilter()).build();
+	}
+
+	// 목록 페이지 + 전체 개수
+	@Test
+	void listPage() throws Exception {
+		boardCache.evictListPages();
+
+		mockMvc.perform(get("/board/list"))
+				.andExpect(status().isOk())
+				.andExpect(QueryBudget.atMost(2))
+				.andExpect(header().exists(QueryCountFilter.HEADER));
+
+		// 두 번째부터는 렌더링된 HTML 캐시
+		mockMvc.perform(get("/board/list")).andExpect(QueryBudget.exactly(0));
+	}
+
+	// 목록 ETag는 내용에서 나오므로 캐시를 지워도 (다른 서버가 렌더링해도) 같음
+	@Test
+	void listETagFollowsContent() throws Exception {
+		String etag = mockMvc.perform(get("/board/list"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).startsWith("W/\"");
+
+		boardCache.evictListPages();
+		mockMvc.perform(get("/board/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	// 게시글 + 첨부파일 (fetch join), 댓글 수, 댓글 첫 페이지
+	// 첨부파일과 답글이 여러 개여도 그대로여야 함
+	@Test
+	void detailPage() throws Exception {
+		Long boardId = boardWithFilesAndReplies();
+
+		MvcResult result = mockMvc.perform(get("/board/detail/{id}", boardId))
+				.andExpect(status().isOk())
+				.andExpect(QueryBudget.atMost(3))
+				.andReturn();
+		mockMvc.perform(get("/board/detail/{id}", boardId))
+				.andExpect(header().string(QueryCountFilter.HEADER, "0"));
+
+		// 로그인 사용자는 좋아요 여부(게시글의 좋아요 사용자 목록) 하나 추가
+		boardCache.evictBoard(boardId);
+		boardCache.evictComments(boardId);
+		mockMvc.perform(get("/board/detail/{id}", boardId).cookie(loginCookie()))
+				.andExpect(status().isOk())
+				.andExpect(QueryBudget.atMost(4));
+
+		assertThat(result.getResponse().getContentAsString()).contains("답글");
+	}
+
+	private Long boardWithFilesAndReplies() {
+		Board board = new Board();
+		board.setTitle("쿼리 수 확인");
+		board.setContent("본문");
+		board.setWriter("작성자");
+		board = boardRepository.save(board);
+
+		for (int i = 0; i < 3; i++) {
+			BoardFile file = new BoardFile();
+			file.setBoard(board);
+			file.setOriginalFileName("file" + i + ".txt");
+			file.setStorageKey("key" + i);
+			file.setFileSize(10L);
+			file.setContentType("text/plain");
+			boardFileRepository.save(file);
+		}
+
+		Comment parent = commentService.save(board.getId(), null, "작성자", "댓글");
+		for (int i = 0; i < 3; i++) {
+			Comment reply = commentService.save(board.getId(), parent.getId(), "작성자", "답글 " + i);
+			commentService.save(board.getId(), reply.getId(), "작성자", "답글의 답글 " + i);
+		}
+		return board.getId();
+	}
+
+	private Cookie loginCookie() {
+		User user = new User();
+		user.setId(1L);
+		user.setUsername("tester");
+		user.setName("tester");
+		return new Cookie(LoginTokenService.COOKIE, loginTokenService.issue(user));
+	}
+}
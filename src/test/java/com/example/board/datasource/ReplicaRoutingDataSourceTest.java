@@ -0,0 +1,107 @@
+package com.example.board.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// primary 1개 + replica 2개를 각각 다른 H2 DB로 띄우고, 어느 DB에서 읽었는지 node 테이블 값으로 확인
+class ReplicaRoutingDataSourceTest {
+
+	private final DataSource router = ReplicaRoutingDataSource.create(
+			node("primary"), List.of(node("replica-a"), node("replica-b")));
+	private final JdbcTemplate jdbcTemplate = new JdbcTemplate(router);
+	private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(router);
+
+	// 쓰기 기록은 요청 스레드에서만 남으므로 요청 안에서 실행
+	@BeforeEach
+	void bindRequest() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@AfterEach
+	void clear() {
+		ReplicaRouting.clear();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void readOnlyTransactionsAreSpreadOverReplicas() {
+		assertThat(List.of(readOnly(), readOnly(), readOnly(), readOnly()))
+				.containsExactlyInAnyOrder("replica-a", "replica-b", "replica-a", "replica-b");
+		assertThat(readOnly()).isNotEqualTo(readOnly());
+	}
+
+	@Test
+	void readWriteTransactionUsesPrimary() {
+		assertThat(readWrite()).isEqualTo("primary");
+		assertThat(ReplicaRouting.hasWritten()).isTrue();
+	}
+
+	@Test
+	void readsAfterOwnWriteUsePrimary() {
+		readWrite();
+
+		assertThat(readOnly()).isEqualTo("primary");
+	}
+
+	// 백그라운드 스레드의 쓰기는 기록하지 않음 (지워 줄 인터셉터가 없어 스레드가 primary에 묶이지 않도록)
+	@Test
+	void writesOutsideRequestAreNotTracked() {
+		RequestContextHolder.resetRequestAttributes();
+
+		assertThat(readWrite()).isEqualTo("primary");
+		assertThat(ReplicaRouting.hasWritten()).isFalse();
+		assertThat(readOnly()).startsWith("replica");
+	}
+
+	@Test
+	void requiredPrimaryOverridesReadOnly() {
+		ReplicaRouting.requirePrimary();
+
+		assertThat(readOnly()).isEqualTo("primary");
+		assertThat(ReplicaRouting.hasWritten()).isFalse();
+	}
+
+	@Test
+	void onPrimaryAppliesOnlyInsideTheCall() {
+		assertThat(ReplicaRouting.onPrimary(this::readOnly)).isEqualTo("primary");
+		assertThat(readOnly()).startsWith("replica");
+	}
+
+	private String readOnly() {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(true);
+		return template.execute(status -> currentNode());
+	}
+
+	private String readWrite() {
+		return new TransactionTemplate(transactionManager).execute(status -> currentNode());
+	}
+
+	private String currentNode() {
+		return jdbcTemplate.queryForObject("select name from node", String.class);
+	}
+
+	private static DataSource node(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table if not exists node (name varchar(20))");
+		jdbcTemplate.update("delete from node");
+		jdbcTemplate.update("insert into node (name) values (?)", name);
+		return dataSource;
+	}
+}
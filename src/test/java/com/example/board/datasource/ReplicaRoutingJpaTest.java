@@ -0,0 +1,97 @@
+package com.example.board.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.board.config.ReplicaDataSourceConfig.ReplicaDataSources;
+import com.example.board.entity.Board;
+import com.example.board.repository.BoardRepository;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// open-in-view로 요청 내내 EntityManager가 열려 있어도
+// 읽기 트랜잭션이 잡은 replica 연결이 이어지는 쓰기 트랜잭션에 쓰이지 않는지 확인
+// (replica도 같은 H2 DB를 가리키고, 어느 연결 풀을 썼는지로 구분)
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.jpa.open-in-view=true",
+		"board.datasource.routing.enabled=true",
+		"board.datasource.replicas[0].url=jdbc:h2:mem:routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		// 다른 테스트 컨텍스트가 쓰는 검색 인덱스 잠금과 겹치지 않도록
+		"board.search.index-path=./target/test-data/routing-search-index"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingJpaTest {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ReplicaDataSources replicaDataSources;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@AfterEach
+	void clear() {
+		ReplicaRouting.clear();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void writeAfterReadInSameRequestUsesPrimary() {
+		OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+		openInView.setEntityManagerFactory(entityManagerFactory);
+		ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+		RequestContextHolder.setRequestAttributes(request);
+
+		openInView.preHandle(request);
+		try {
+			TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+			readOnly.setReadOnly(true);
+			readOnly.executeWithoutResult(status -> {
+				boardRepository.count();
+				assertThat(replica().getActiveConnections()).isOne();
+			});
+
+			Board board = new TransactionTemplate(transactionManager).execute(status -> {
+				Board saved = boardRepository.saveAndFlush(newBoard());
+				assertThat(replica().getActiveConnections()).isZero();
+				return saved;
+			});
+
+			assertThat(ReplicaRouting.hasWritten()).isTrue();
+			assertThat(board.getId()).isNotNull();
+		} finally {
+			openInView.afterCompletion(request, null);
+		}
+	}
+
+	private HikariPoolMXBean replica() {
+		return replicaDataSources.dataSources().get(0).getHikariPoolMXBean();
+	}
+
+	private static Board newBoard() {
+		Board board = new Board();
+		board.setTitle("읽은 뒤 쓰기");
+		board.setContent("본문");
+		board.setWriter("작성자");
+		return board;
+	}
+}
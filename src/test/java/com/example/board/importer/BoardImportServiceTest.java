@@ -0,0 +1,55 @@
+package com.example.board.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.board.repository.BoardRepository;
+import com.example.board.repository.CommentRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardImportServiceTest {
+
+	@Autowired
+	private BoardImportService boardImportService;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Test
+	void importsBoardsWithComments() throws Exception {
+		long boards = boardRepository.count();
+		long comments = commentRepository.count();
+		String lines = """
+				{"title": "가져온 글 1", "content": "본문", "writer": "작성자", "comments": [{"writer": "a", "content": "댓글1"}, {"writer": "b", "content": "댓글2"}]}
+
+				{"title": "가져온 글 2", "content": "본문", "writer": "작성자"}
+				{"title": "가져온 글 3", "content": "본문", "writer": "작성자", "comments": [{"writer": "c", "content": "댓글3"}]}
+				""";
+
+		BoardImportService.ImportResult result = boardImportService.importJsonLines(new BufferedReader(new StringReader(lines)));
+
+		assertThat(result.boards()).isEqualTo(3);
+		assertThat(result.comments()).isEqualTo(3);
+		assertThat(boardRepository.count()).isEqualTo(boards + 3);
+		assertThat(commentRepository.count()).isEqualTo(comments + 3);
+	}
+
+	@Test
+	void rejectsRowWithoutTitle() {
+		String lines = "{\"content\": \"본문\", \"writer\": \"작성자\"}\n";
+
+		assertThatThrownBy(() -> boardImportService.importJsonLines(new BufferedReader(new StringReader(lines))))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("1번째 줄");
+	}
+}
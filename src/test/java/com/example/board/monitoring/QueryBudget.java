@@ -0,0 +1,30 @@
+package com.example.board.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+// MockMvc 요청 하나에서 실행된 SQL 문 수 확인 (QueryCountFilter가 요청 속성에 남긴 값)
+// mockMvc.perform(get("/board/list")).andExpect(QueryBudget.atMost(2));
+public final class QueryBudget {
+
+	private QueryBudget() {
+	}
+
+	public static ResultMatcher atMost(int max) {
+		return result -> assertThat(count(result.getRequest().getAttribute(QueryCountFilter.QUERY_COUNT)))
+				.as("%s %s 의 SQL 문 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+				.isLessThanOrEqualTo(max);
+	}
+
+	public static ResultMatcher exactly(int expected) {
+		return result -> assertThat(count(result.getRequest().getAttribute(QueryCountFilter.QUERY_COUNT)))
+				.as("%s %s 의 SQL 문 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+				.isEqualTo(expected);
+	}
+
+	private static int count(Object attribute) {
+		assertThat(attribute).as("QueryCountFilter가 적용되지 않음").isInstanceOf(Integer.class);
+		return (Integer) attribute;
+	}
+}
@@ -0,0 +1,190 @@
+package com.example.board.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.board.dto.BoardSummary;
+import com.example.board.entity.AttachmentStatus;
+import com.example.board.entity.Board;
+
+// 자주 실행되는 repository 쿼리가 인덱스를 타는지 확인
+// 쿼리를 실제로 실행해서 Hibernate가 만든 SQL을 모으고, 같은 SQL을 H2 EXPLAIN으로 돌려 테이블(또는 인덱스) 전체를 읽으면 실패
+// 좋아요 수 보정(reconcileLikeCounts)처럼 원래 전체를 읽는 배치 쿼리는 제외
+// 오프셋 페이징 목록처럼 계획 주석만으로는 판단할 수 없는 쿼리는 이름으로 지정해서 허용 (allowedScan)
+// (테스트 DB는 Flyway 마이그레이션 + 더미 데이터로 만들어진 H2, 계획 문자열 형식은 H2 기준)
+// 설정이 달라 별도 컨텍스트로 뜨므로 검색 인덱스 디렉터리(잠금)도 따로 사용
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "com.example.board.repository.QueryPlanTest$SqlRecorder",
+		"board.search.index-path=./target/test-data/query-plan-index" })
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+	private static final Long ID = 1L;
+	private static final Pattern TABLE_ACCESS = Pattern.compile("/\\* public\\.([^*]+?) \\*/");
+	private static final Set<String> OFFSET_PAGED = Set.of("게시글 목록", "게시글 목록 (작성일순)");
+
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private BoardFileRepository boardFileRepository;
+	@Autowired
+	private BoardLikeRepository boardLikeRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void hotQueriesUseIndexes() throws SQLException {
+		Map<String, Runnable> queries = new LinkedHashMap<>();
+		queries.put("게시글 목록", () -> boardRepository.findAllBy(
+				PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "id")), BoardSummary.class));
+		queries.put("게시글 목록 (작성일순)", () -> boardRepository.findAllBy(
+				PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "createdDate")), BoardSummary.class));
+		queries.put("게시글 keyset 다음", () -> boardRepository.findByIdLessThanOrderByIdDesc(ID, Limit.of(10), BoardSummary.class));
+		queries.put("게시글 keyset 이전", () -> boardRepository.findByIdGreaterThanOrderByIdAsc(ID, Limit.of(10), BoardSummary.class));
+		queries.put("게시글 id 목록", () -> boardRepository.findByIdIn(List.of(1L, 2L), BoardSummary.class));
+		queries.put("게시글 상세", () -> boardRepository.findDetailById(ID));
+		queries.put("좋아요 수", () -> boardRepository.findLikeCountById(ID));
+		queries.put("댓글 수", () -> boardRepository.findCommentCountById(ID));
+		queries.put("좋아요 수 증감", () -> write(() -> boardRepository.addLikeCount(ID, 0)));
+		queries.put("댓글 수 증감", () -> write(() -> boardRepository.addCommentCount(ID, 0)));
+		queries.put("첨부파일 상태", () -> boardRepository.updateAttachmentStatus(ID, AttachmentStatus.NONE));
+		queries.put("처리 중으로 남은 게시글", () -> boardRepository.findIdsByAttachmentStatusBefore(
+				AttachmentStatus.PROCESSING, LocalDateTime.now()));
+		queries.put("처리 중 게시글 실패 처리", () -> boardRepository.updateAttachmentStatus(
+				List.of(ID), AttachmentStatus.PROCESSING, AttachmentStatus.PROCESSING));
+
+		queries.put("댓글 페이지", () -> commentRepository.findPage(ID, "%", "", Limit.of(51)));
+		queries.put("답글 묶음", () -> commentRepository.findPage(ID, "00000001%", "00000001", Limit.of(51)));
+		queries.put("답글 수 증감", () -> write(() -> commentRepository.addReplyCount(ID, List.of("00000001"), 0)));
+
+		queries.put("게시글 첨부파일", () -> boardFileRepository.findByBoard(boardRepository.getReferenceById(ID)));
+		queries.put("blob 참조 수", () -> boardFileRepository.countReferences("key"));
+		queries.put("게시글 blob key", () -> boardFileRepository.findBlobKeysByBoardId(ID));
+		queries.put("파생본 없는 이미지", () -> boardFileRepository.findImagesWithoutDerivatives(ID));
+
+		queries.put("좋아요 여부", () -> boardLikeRepository.existsByUserIdAndBoardId(ID, ID));
+		queries.put("좋아요 사용자 목록", () -> boardLikeRepository.findUserIdsByBoardId(ID));
+		queries.put("좋아요 취소", () -> write(() -> boardLikeRepository.deleteByUserIdAndBoardId(ID, ID)));
+
+		queries.put("로그인", () -> userRepository.findByUsername("tester"));
+		queries.put("아이디 중복 확인", () -> userRepository.existsByUsername("tester"));
+
+		List<String> fullScans = new ArrayList<>();
+		for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+			SqlRecorder.STATEMENTS.clear();
+			query.getValue().run();
+			assertThat(SqlRecorder.STATEMENTS).as(query.getKey()).isNotEmpty();
+			for (String sql : SqlRecorder.STATEMENTS) {
+				String plan = explain(sql);
+				if (readsWholeTable(plan) && !allowedScan(query.getKey(), plan)) {
+					fullScans.add(query.getKey() + "\n" + plan);
+				}
+			}
+		}
+
+		assertThat(fullScans).as("전체를 읽는 쿼리").isEmpty();
+	}
+
+	// 게시글 삭제 시 첨부파일/좋아요 정리 (엔티티 삭제 경로)
+	@Test
+	void deleteByBoardUsesIndexes() throws SQLException {
+		SqlRecorder.STATEMENTS.clear();
+		transactionTemplate.executeWithoutResult(status -> {
+			Board board = boardRepository.getReferenceById(ID);
+			boardFileRepository.deleteByBoard(board);
+			boardLikeRepository.deleteByBoard(board);
+			status.setRollbackOnly();
+		});
+
+		for (String sql : SqlRecorder.STATEMENTS) {
+			String plan = explain(sql);
+			assertThat(readsWholeTable(plan)).as(plan).isFalse();
+		}
+	}
+
+	// 오프셋 페이징 목록만 정렬 인덱스를 따라 OFFSET + LIMIT만큼 읽는 계획(index sorted + FETCH)과
+	// 전체 개수 COUNT(*) 바로 조회(direct lookup)를 허용 (계획 주석만 보면 전체를 읽는 것처럼 보임)
+	static boolean allowedScan(String query, String plan) {
+		if (!OFFSET_PAGED.contains(query)) {
+			return false;
+		}
+		return plan.contains("/* direct lookup */")
+				|| (plan.contains("/* index sorted */") && plan.contains("FETCH NEXT"));
+	}
+
+	// H2 계획에서 테이블마다 붙는 주석: /* public.인덱스: 조건 */ 이면 인덱스 탐색,
+	// 조건 없이 /* public.인덱스 */ 나 /* public.테이블.tableScan */ 이면 처음부터 끝까지 읽음
+	static boolean readsWholeTable(String plan) {
+		Matcher access = TABLE_ACCESS.matcher(plan);
+		while (access.find()) {
+			if (!access.group(1).contains(":")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// UPDATE/DELETE는 롤백해서 더미 데이터를 유지
+	private void write(Runnable statement) {
+		transactionTemplate.executeWithoutResult(status -> {
+			statement.run();
+			status.setRollbackOnly();
+		});
+	}
+
+	// 파라미터(?)는 채우지 않아도 H2가 계획을 세움
+	private String explain(String sql) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+				ResultSet plan = statement.executeQuery()) {
+			StringBuilder text = new StringBuilder();
+			while (plan.next()) {
+				text.append(plan.getString(1)).append('\n');
+			}
+			return text.toString();
+		}
+	}
+
+	// Hibernate가 실행하는 SQL 기록
+	public static class SqlRecorder implements StatementInspector {
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.board.entity.Board;
+import com.example.board.repository.BoardRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardSearchIndexTest {
+
+	@Autowired
+	private BoardSearchIndex boardSearchIndex;
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Test
+	void rebuildKeepsOneDocumentPerBoardWhileIndexingConcurrently() {
+		String word = uniqueWord();
+		Board board = boardRepository.save(newBoard(word));
+		boardSearchIndex.index(board);
+
+		CompletableFuture<Long> rebuild = CompletableFuture.supplyAsync(boardSearchIndex::rebuild);
+		for (int i = 0; i < 20; i++) {
+			boardSearchIndex.index(board);
+			assertThat(boardSearchIndex.count("title", word)).isEqualTo(1);
+		}
+		rebuild.join();
+
+		assertThat(boardSearchIndex.count("title", word)).isEqualTo(1);
+		assertThat(boardSearchIndex.search("title", word, PageRequest.of(0, 10)).getContent()).containsExactly(board.getId());
+	}
+
+	@Test
+	void rebuildDropsBoardsDeletedOutsideTheIndex() {
+		String word = uniqueWord();
+		Board board = boardRepository.save(newBoard(word));
+		boardSearchIndex.index(board);
+		boardRepository.delete(board);
+		assertThat(boardSearchIndex.count("title", word)).isEqualTo(1);
+
+		boardSearchIndex.rebuild();
+
+		assertThat(boardSearchIndex.count("title", word)).isZero();
+	}
+
+	private Board newBoard(String word) {
+		Board board = new Board();
+		board.setTitle("검색 " + word);
+		board.setContent("본문");
+		board.setWriter("작성자");
+		return board;
+	}
+
+	private String uniqueWord() {
+		return UUID.randomUUID().toString().substring(0, 8);
+	}
+}
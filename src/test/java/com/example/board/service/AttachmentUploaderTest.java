@@ -0,0 +1,74 @@
+package com.example.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.board.entity.AttachmentStatus;
+import com.example.board.entity.Board;
+import com.example.board.repository.BoardRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AttachmentUploaderTest {
+
+	@Autowired
+	private AttachmentUploader attachmentUploader;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Value("${board.upload.staging-dir}")
+	private String stagingDir;
+
+	// 업로드 도중 종료되어 남은 오래된 임시 파일만 지움
+	@Test
+	void sweepsOnlyStaleStagingFiles() throws Exception {
+		Path dir = Paths.get(stagingDir).toAbsolutePath();
+		Path stale = Files.createTempFile(dir, "stale-", ".part");
+		Path fresh = Files.createTempFile(dir, "fresh-", ".part");
+		Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+		attachmentUploader.sweepStaging();
+
+		assertThat(stale).doesNotExist();
+		assertThat(fresh).exists();
+		Files.delete(fresh);
+	}
+
+	// 업로드 도중 종료되어 PROCESSING으로 남은 오래된 게시글만 FAILED로
+	@Test
+	void failsStaleProcessingBoards() {
+		Long stale = processingBoard();
+		Long fresh = processingBoard();
+		jdbcTemplate.update("UPDATE board SET created_date = ? WHERE id = ?",
+				LocalDateTime.now().minusHours(2), stale);
+
+		attachmentUploader.sweepStaging();
+
+		assertThat(boardRepository.findById(stale).orElseThrow().getAttachmentStatus()).isEqualTo(AttachmentStatus.FAILED);
+		assertThat(boardRepository.findById(fresh).orElseThrow().getAttachmentStatus()).isEqualTo(AttachmentStatus.PROCESSING);
+	}
+
+	private Long processingBoard() {
+		Board board = new Board();
+		board.setTitle("첨부파일 처리 중");
+		board.setContent("본문");
+		board.setWriter("작성자");
+		board.setAttachmentStatus(AttachmentStatus.PROCESSING);
+		return boardRepository.save(board).getId();
+	}
+}
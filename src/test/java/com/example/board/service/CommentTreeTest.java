@@ -0,0 +1,165 @@
+package com.example.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.board.dto.CommentView;
+import com.example.board.dto.CursorPage;
+import com.example.board.entity.Board;
+import com.example.board.entity.Comment;
+import com.example.board.repository.BoardRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentTreeTest {
+
+	@Autowired
+	private CommentService commentService;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Long boardId;
+
+	@BeforeEach
+	void setUp() {
+		Board board = new Board();
+		board.setTitle("답글 테스트");
+		board.setContent("본문");
+		board.setWriter("작성자");
+		boardId = boardRepository.save(board).getId();
+	}
+
+	@Test
+	void returnsRepliesUnderTheirParentInOrder() {
+		Comment first = write(null, "1");
+		Comment second = write(null, "2");
+		Comment reply = write(first.getId(), "1-1");
+		write(reply.getId(), "1-1-1");
+		write(first.getId(), "1-2");
+
+		List<String> contents = commentService.findPage(boardId, null, 10).getContent().stream()
+				.map(CommentView::getContent).toList();
+
+		assertThat(contents).containsExactly("1", "1-1", "1-1-1", "1-2", "2");
+		assertThat(commentService.findById(first.getId()).getReplyCount()).isEqualTo(3);
+		assertThat(commentService.findById(reply.getId()).getReplyCount()).isEqualTo(1);
+		assertThat(commentService.findById(second.getId()).getReplyCount()).isZero();
+		assertThat(boardRepository.findCommentCountById(boardId)).contains(5);
+	}
+
+	// 다른 서버의 id 블록에서 받아 id가 더 큰 댓글이 먼저 작성되어도 형제는 작성 순서
+	@Test
+	void siblingsFollowCreatedDateAcrossIdBlocks() {
+		Comment parent = write(null, "부모");
+		Comment earlier = new Comment();
+		earlier.setId(parent.getId() + 1000);
+		earlier.setParentPath(parent.getPath());
+		earlier.prePersist();
+		sleep(2);
+		Comment later = new Comment();
+		later.setId(parent.getId() + 1);
+		later.setParentPath(parent.getPath());
+		later.prePersist();
+
+		assertThat(earlier.getPath()).startsWith(parent.getPath()).isLessThan(later.getPath());
+		assertThat(later.getDepth()).isEqualTo(1);
+	}
+
+	@Test
+	void pagesThroughRepliesWithCursor() {
+		Comment parent = write(null, "부모");
+		for (int i = 0; i < 5; i++) {
+			write(parent.getId(), "답글" + i);
+		}
+		write(null, "다른 댓글");
+
+		CursorPage<CommentView> first = commentService.findReplies(parent.getId(), null, 3);
+		CursorPage<CommentView> second = commentService.findReplies(parent.getId(), first.getNextCursor(), 3);
+
+		assertThat(first.getContent()).extracting(CommentView::getContent).containsExactly("답글0", "답글1", "답글2");
+		assertThat(second.getContent()).extracting(CommentView::getContent).containsExactly("답글3", "답글4");
+		assertThat(second.getNextCursor()).isNull();
+		assertThat(first.getTotalElements()).isEqualTo(5);
+	}
+
+	@Test
+	void replyToDeepestCommentStaysAtMaxDepth() {
+		Comment comment = write(null, "0");
+		for (int depth = 1; depth <= Comment.MAX_DEPTH; depth++) {
+			comment = write(comment.getId(), String.valueOf(depth));
+		}
+
+		Comment reply = write(comment.getId(), "더 깊은 답글");
+
+		assertThat(comment.getDepth()).isEqualTo(Comment.MAX_DEPTH);
+		assertThat(reply.getDepth()).isEqualTo(Comment.MAX_DEPTH);
+		assertThat(Comment.parentPath(reply.getPath())).isEqualTo(Comment.parentPath(comment.getPath()));
+	}
+
+	@Test
+	void deletingCommentWithRepliesKeepsThread() {
+		Comment parent = write(null, "부모");
+		Comment reply = write(parent.getId(), "답글");
+
+		commentService.delete(parent.getId());
+
+		List<CommentView> comments = commentService.findPage(boardId, null, 10).getContent();
+		assertThat(comments).hasSize(2);
+		assertThat(comments.get(0).isDeleted()).isTrue();
+		assertThat(comments.get(0).getContent()).isEmpty();
+
+		commentService.delete(reply.getId());
+
+		assertThat(commentService.findById(parent.getId()).getReplyCount()).isZero();
+		assertThat(boardRepository.findCommentCountById(boardId)).contains(1);
+	}
+
+	// 답글이 커밋되기 전에 시작한 부모 삭제는 커밋을 기다렸다가 답글을 보고 "삭제된 댓글"로 남김
+	@Test
+	void deleteWaitsForConcurrentReply() throws Exception {
+		Comment parent = write(null, "부모");
+		CountDownLatch replied = new CountDownLatch(1);
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		CompletableFuture<Void> reply = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+			write(parent.getId(), "답글");
+			replied.countDown();
+			sleep(1000);
+		}));
+		assertThat(replied.await(5, TimeUnit.SECONDS)).isTrue();
+		commentService.delete(parent.getId());
+		reply.get(5, TimeUnit.SECONDS);
+
+		Comment deleted = commentService.findById(parent.getId());
+		assertThat(deleted.isDeleted()).isTrue();
+		assertThat(deleted.getReplyCount()).isEqualTo(1);
+		assertThat(commentService.findPage(boardId, null, 10).getContent()).hasSize(2);
+		assertThat(boardRepository.findCommentCountById(boardId)).contains(2);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Comment write(Long parentId, String content) {
+		return commentService.save(boardId, parentId, "작성자", content);
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.board.entity.Board;
+import com.example.board.entity.BoardFile;
+import com.example.board.repository.BoardFileRepository;
+import com.example.board.repository.BoardRepository;
+import com.example.board.storage.StorageBackend;
+import com.example.board.storage.StoredBlob;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FileServiceTest {
+
+	private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D };
+
+	@Autowired
+	private FileService fileService;
+	@Autowired
+	private StorageBackend storageBackend;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private BoardFileRepository boardFileRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Board board;
+
+	@BeforeEach
+	void setUp() {
+		board = new Board();
+		board.setTitle("첨부 테스트");
+		board.setContent("본문");
+		board.setWriter("작성자");
+		board = boardRepository.save(board);
+	}
+
+	// 같은 내용은 blob 하나를 공유하고, 마지막 참조가 없어질 때만 지움
+	@Test
+	void sharesIdenticalUploadsUntilLastReleased() throws IOException {
+		byte[] content = uniqueContent();
+		BoardFile first = fileService.attach(List.of(newFile(store(content)))).get(0);
+		BoardFile second = fileService.attach(List.of(newFile(store(content)))).get(0);
+		String key = first.getStorageKey();
+		assertThat(second.getStorageKey()).isEqualTo(key);
+
+		boardFileRepository.deleteById(first.getId());
+		fileService.releaseBlobs(List.of(key));
+		assertThat(storageBackend.exists(key)).isTrue();
+
+		boardFileRepository.deleteById(second.getId());
+		fileService.releaseBlobs(List.of(key));
+		assertThat(storageBackend.exists(key)).isFalse();
+	}
+
+	// 올린 뒤 참조를 넣기 전에 blob이 정리되었으면 깨진 링크 대신 실패
+	@Test
+	void refusesToAttachReleasedBlob() throws IOException {
+		StoredBlob blob = store(uniqueContent());
+		fileService.releaseBlobs(List.of(blob.getKey()));
+
+		assertThatThrownBy(() -> fileService.attach(List.of(newFile(blob))))
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(boardFileRepository.countReferences(blob.getKey())).isZero();
+	}
+
+	// attach가 커밋되기 전에 시작한 정리는 커밋을 기다렸다가 참조를 보고 blob을 남김
+	@Test
+	void releaseWaitsForConcurrentAttach() throws Exception {
+		StoredBlob blob = store(uniqueContent());
+		CountDownLatch attached = new CountDownLatch(1);
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		CompletableFuture<Void> attach = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+			fileService.attach(List.of(newFile(blob)));
+			attached.countDown();
+			sleep(1000);
+		}));
+		assertThat(attached.await(5, TimeUnit.SECONDS)).isTrue();
+		fileService.releaseBlobs(List.of(blob.getKey()));
+		attach.get(5, TimeUnit.SECONDS);
+
+		assertThat(storageBackend.exists(blob.getKey())).isTrue();
+		assertThat(boardFileRepository.countReferences(blob.getKey())).isEqualTo(1);
+	}
+
+	// 클라이언트가 보낸 Content-Type 대신 내용으로 판별
+	@Test
+	void ignoresClientContentType() throws IOException {
+		MockMultipartFile html = new MockMultipartFile("files", "photo.png", "image/png",
+				"<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8));
+		MockMultipartFile png = new MockMultipartFile("files", "page.html", "text/html", PNG);
+
+		assertThat(FileService.resolveContentType(html)).isEqualTo("application/octet-stream");
+		assertThat(FileService.resolveContentType(png)).isEqualTo("image/png");
+	}
+
+	// 내용으로 모르면 안전한 형식만 파일명으로 추정
+	@Test
+	void usesFileNameOnlyForSafeTypes() throws IOException {
+		byte[] text = "hello".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(FileService.resolveContentType(new ByteArrayInputStream(text), "readme.txt")).isEqualTo("text/plain");
+		assertThat(FileService.resolveContentType(new ByteArrayInputStream(text), "page.html")).isEqualTo("application/octet-stream");
+		assertThat(FileService.resolveContentType(new ByteArrayInputStream(text), "image.svg")).isEqualTo("application/octet-stream");
+		assertThat(FileService.resolveContentType(new ByteArrayInputStream(new byte[0]), null)).isEqualTo("application/octet-stream");
+	}
+
+	private StoredBlob store(byte[] content) throws IOException {
+		return storageBackend.store(new ByteArrayInputStream(content));
+	}
+
+	private BoardFile newFile(StoredBlob blob) {
+		BoardFile boardFile = new BoardFile();
+		boardFile.setBoard(board);
+		boardFile.setOriginalFileName("file.txt");
+		boardFile.setStorageKey(blob.getKey());
+		boardFile.setFileSize(blob.getSize());
+		boardFile.setContentType("text/plain");
+		return boardFile;
+	}
+
+	private byte[] uniqueContent() {
+		return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
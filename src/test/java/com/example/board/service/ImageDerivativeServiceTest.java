@@ -0,0 +1,125 @@
+package com.example.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.board.entity.Board;
+import com.example.board.entity.BoardFile;
+import com.example.board.repository.BoardFileRepository;
+import com.example.board.repository.BoardRepository;
+import com.example.board.storage.StorageBackend;
+import com.example.board.storage.StoredBlob;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageDerivativeServiceTest {
+
+	@Autowired
+	private ImageDerivativeService imageDerivativeService;
+	@Autowired
+	private FileService fileService;
+	@Autowired
+	private StorageBackend storageBackend;
+	@Autowired
+	private BoardRepository boardRepository;
+	@Autowired
+	private BoardFileRepository boardFileRepository;
+	@Autowired
+	private WebApplicationContext context;
+
+	private Board board;
+	private byte[] png;
+	private BoardFile image;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		board = new Board();
+		board.setTitle("이미지 테스트");
+		board.setContent("본문");
+		board.setWriter("작성자");
+		board = boardRepository.save(board);
+
+		BufferedImage source = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+		source.setRGB(0, 0, (int) (System.nanoTime() & 0xFFFFFF));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(source, "png", out);
+		png = out.toByteArray();
+
+		image = attach("image.png", png);
+	}
+
+	// 파생본이 없으면 원본을 다운로드(attachment)가 아니라 화면 표시용으로 보냄
+	@Test
+	void servesOriginalInlineUntilDerivativeExists() throws Exception {
+		MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+		mockMvc.perform(get("/board/file/thumbnail/{id}", image.getId()))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+				.andExpect(content().bytes(png));
+	}
+
+	// 대기열에서 밀려난 작업도 주기적 재등록으로 결국 만들어짐
+	@Test
+	void sweepGeneratesMissedDerivatives() throws Exception {
+		imageDerivativeService.sweepPending();
+
+		long deadline = System.currentTimeMillis() + 10_000;
+		BoardFile reloaded = boardFileRepository.findById(image.getId()).orElseThrow();
+		while (reloaded.getThumbnailKey() == null && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+			reloaded = boardFileRepository.findById(image.getId()).orElseThrow();
+		}
+		assertThat(reloaded.getThumbnailKey()).isNotNull();
+		assertThat(reloaded.getWebKey()).isNotNull();
+	}
+
+	// 읽을 수 없는 이미지는 한 번 시도한 뒤 기록해서 주기적 재등록에서 다시 고르지 않음
+	@Test
+	void unreadableImageIsNotPickedUpAgain() throws Exception {
+		BoardFile broken = attach("broken.png", ("이미지가 아님 " + System.nanoTime()).getBytes());
+
+		imageDerivativeService.generate(broken);
+
+		BoardFile reloaded = boardFileRepository.findById(broken.getId()).orElseThrow();
+		assertThat(reloaded.isDerivativeSkipped()).isTrue();
+		assertThat(reloaded.getThumbnailKey()).isNull();
+		assertThat(boardFileRepository.findPendingDerivatives(LocalDateTime.now().minusDays(1), 0L, Limit.of(1000)))
+				.extracting(BoardFile::getId).doesNotContain(broken.getId());
+	}
+
+	private BoardFile attach(String fileName, byte[] bytes) throws Exception {
+		StoredBlob blob = storageBackend.store(new ByteArrayInputStream(bytes));
+		BoardFile boardFile = new BoardFile();
+		boardFile.setBoard(board);
+		boardFile.setOriginalFileName(fileName);
+		boardFile.setStorageKey(blob.getKey());
+		boardFile.setFileSize(blob.getSize());
+		boardFile.setContentType("image/png");
+		return fileService.attach(List.of(boardFile)).get(0);
+	}
+}
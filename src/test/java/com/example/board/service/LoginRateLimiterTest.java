@@ -0,0 +1,84 @@
+package com.example.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginRateLimiterTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void limitsAttemptsPerUsernameFromSameIp() {
+		LoginRateLimiter limiter = limiter(3, Duration.ofHours(1), 100);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+		}
+
+		// 대소문자/공백만 바꾼 아이디도 같은 버킷
+		assertThat(limiter.tryAcquire(" Alice", "10.0.0.1")).isFalse();
+		assertThat(limiter.tryAcquire("bob", "10.0.0.1")).isTrue();
+		assertThat(registry.get("board.login.throttled").tag("key", "ip-username").counter().count()).isEqualTo(1);
+	}
+
+	// 다른 IP에서 남의 아이디로 실패를 쌓아도 그 사용자는 잠기지 않음
+	@Test
+	void otherIpCannotLockOutUsername() {
+		LoginRateLimiter limiter = limiter(3, Duration.ofHours(1), 100);
+
+		for (int i = 0; i < 4; i++) {
+			limiter.tryAcquire("alice", "10.0.0.66");
+		}
+
+		assertThat(limiter.tryAcquire("alice", "10.0.0.66")).isFalse();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+	}
+
+	@Test
+	void successfulLoginRefillsUsernameBucket() {
+		LoginRateLimiter limiter = limiter(2, Duration.ofHours(1), 100);
+
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+		limiter.reset("Alice", "10.0.0.1");
+
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isFalse();
+	}
+
+	@Test
+	void limitsAttemptsPerIp() {
+		LoginRateLimiter limiter = limiter(100, Duration.ofHours(1), 3);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("user" + i, "10.0.0.1")).isTrue();
+		}
+
+		assertThat(limiter.tryAcquire("user9", "10.0.0.1")).isFalse();
+		assertThat(limiter.tryAcquire("user9", "10.0.0.2")).isTrue();
+		assertThat(registry.get("board.login.throttled").tag("key", "ip").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void refillsOverTime() throws InterruptedException {
+		LoginRateLimiter limiter = limiter(2, Duration.ofMillis(100), 100);
+
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isFalse();
+
+		Thread.sleep(60);
+
+		assertThat(limiter.tryAcquire("alice", "10.0.0.1")).isTrue();
+	}
+
+	private LoginRateLimiter limiter(int usernameCapacity, Duration period, int ipCapacity) {
+		return new LoginRateLimiter(usernameCapacity, period, ipCapacity, Duration.ofHours(1), 1000, registry);
+	}
+}
@@ -0,0 +1,143 @@
+package com.example.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.board.config.AppConfig;
+import com.example.board.config.AsyncConfig;
+import com.example.board.entity.User;
+import com.example.board.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserLoginTest {
+
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	@Autowired
+	private MeterRegistry registry;
+	@Autowired
+	private WebApplicationContext context;
+
+	// 접두사 없는 (예전 BCryptPasswordEncoder) 해시는 로그인에 성공하면 지금 설정으로 다시 저장
+	@Test
+	void rehashesLegacyPasswordOnLogin() {
+		User user = saveUser("legacy", new BCryptPasswordEncoder(4).encode("password"));
+		String legacy = user.getPassword();
+
+		assertThat(userService.login("legacy", "wrong").join()).isNull();
+		assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(legacy);
+
+		assertThat(userService.login("legacy", "password").join()).isNotNull();
+		String upgraded = userRepository.findById(user.getId()).orElseThrow().getPassword();
+		assertThat(upgraded).startsWith("{bcrypt}$2a$10$");
+		assertThat(passwordEncoder.matches("password", upgraded)).isTrue();
+
+		// 이미 지금 설정이면 그대로
+		assertThat(userService.login("legacy", "password").join()).isNotNull();
+		assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(upgraded);
+	}
+
+	@Test
+	void argon2CanBeSelected() {
+		PasswordEncoder argon2 = new AppConfig().passwordEncoder("argon2", 10, 1024, 1);
+		String encoded = argon2.encode("password");
+
+		assertThat(encoded).startsWith("{argon2}").hasSizeLessThanOrEqualTo(255);
+		assertThat(argon2.matches("password", encoded)).isTrue();
+		assertThat(argon2.matches("password", passwordEncoder.encode("password"))).isTrue();
+		assertThat(argon2.upgradeEncoding(passwordEncoder.encode("password"))).isTrue();
+		assertThat(argon2.upgradeEncoding(encoded)).isFalse();
+	}
+
+	// 시도 제한을 넘기면 해시 계산 없이 429
+	@Test
+	void throttlesLoginBeforeHashing() throws Exception {
+		saveUser("throttled", passwordEncoder.encode("password"));
+		MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		double hashed = matchesCount();
+
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(post("/user/login").param("username", "throttled").param("password", "wrong"))
+					.andReturn().getAsyncResult();
+		}
+		assertThat(matchesCount()).isEqualTo(hashed + 5);
+
+		mockMvc.perform(post("/user/login").param("username", "throttled").param("password", "password"))
+				.andExpect(status().isTooManyRequests());
+		assertThat(matchesCount()).isEqualTo(hashed + 5);
+		// 해시 스레드 풀 큐 길이
+		assertThat(registry.find("executor.queued").tag("name", "passwordHashExecutor").gauge()).isNotNull();
+	}
+
+	// 해시 스레드가 모두 바쁘고 큐도 차면 기다리지 않고 거절
+	@Test
+	void rejectsWhenHashingPoolIsFull() {
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder slow = new BCryptPasswordEncoder(4) {
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.matches(rawPassword, encodedPassword);
+			}
+		};
+		ThreadPoolTaskExecutor executor = new AsyncConfig().passwordHashExecutor(1, 1);
+		executor.initialize();
+		try {
+			PasswordHasher hasher = new PasswordHasher(slow, executor, new SimpleMeterRegistry());
+			String hash = slow.encode("password");
+
+			CompletableFuture<Boolean> running = hasher.matchesAsync("password", hash);
+			CompletableFuture<Boolean> queued = hasher.matchesAsync("password", hash);
+			CompletableFuture<Boolean> rejected = hasher.matchesAsync("password", hash);
+
+			assertThat(rejected).isCompletedExceptionally();
+			assertThat(rejected.handle((result, e) -> PasswordHasher.isBusy(e)).join()).isTrue();
+
+			release.countDown();
+			assertThat(running.join()).isTrue();
+			assertThat(queued.join()).isTrue();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private double matchesCount() {
+		return registry.get("board.password.hash").tag("op", "matches").timer().count();
+	}
+
+	private User saveUser(String username, String encodedPassword) {
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword(encodedPassword);
+		user.setName(username);
+		user.setEmail(username + "@example.com");
+		return userRepository.save(user);
+	}
+}
@@ -0,0 +1,144 @@
+package com.example.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ViewCountAggregatorTest {
+
+	private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+	private final ViewCountAggregator aggregator = new ViewCountAggregator(jdbcTemplate, 100, Duration.ofMinutes(1));
+
+	@Test
+	void flushesPendingViewsInOneBatch() {
+		aggregator.increment(1L);
+		aggregator.increment(1L);
+		aggregator.increment(2L);
+
+		aggregator.flush();
+
+		assertThat(jdbcTemplate.batches).hasSize(1);
+		assertThat(jdbcTemplate.batches.get(0)).extracting(row -> row[1] + "+" + row[0])
+				.containsExactlyInAnyOrder("1+2", "2+1");
+		assertThat(aggregator.pendingCount(1L)).isZero();
+	}
+
+	// 실패한 증가분은 남겨 두었다가 다음 주기에 반영
+	@Test
+	void retriesFailedFlush() {
+		aggregator.increment(1L);
+		jdbcTemplate.fail = true;
+
+		aggregator.flush();
+
+		assertThat(aggregator.pendingCount(1L)).isEqualTo(1);
+
+		jdbcTemplate.fail = false;
+		aggregator.increment(1L);
+		aggregator.flush();
+
+		assertThat(jdbcTemplate.batches).hasSize(1);
+		assertThat(jdbcTemplate.batches.get(0).get(0)).containsExactly(2L, 1L);
+	}
+
+	// 반영한 뒤 조회가 없는 게시글은 메모리에서 빠짐
+	@Test
+	void prunesFlushedBoards() {
+		for (long id = 1; id <= 100; id++) {
+			aggregator.increment(id);
+		}
+		aggregator.flush();
+		aggregator.increment(7L);
+
+		aggregator.flush();
+
+		assertThat(aggregator.pendingBoards()).isEqualTo(1);
+		aggregator.flush();
+		assertThat(aggregator.pendingBoards()).isZero();
+
+		aggregator.increment(7L);
+		assertThat(aggregator.pendingCount(7L)).isEqualTo(1);
+	}
+
+	@Test
+	void flushesOnShutdown() {
+		aggregator.increment(3L);
+
+		aggregator.flushOnShutdown();
+
+		assertThat(jdbcTemplate.batches).hasSize(1);
+		assertThat(jdbcTemplate.batches.get(0).get(0)).containsExactly(1L, 3L);
+	}
+
+	// 반영/정리와 동시에 들어온 조회수도 잃지 않음
+	@Test
+	void keepsConcurrentIncrements() throws InterruptedException {
+		int threads = 4;
+		int perThread = 20_000;
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			Thread worker = new Thread(() -> {
+				for (int i = 0; i < perThread; i++) {
+					aggregator.increment((long) (i % 3));
+				}
+			});
+			workers.add(worker);
+			worker.start();
+		}
+		while (workers.stream().anyMatch(Thread::isAlive)) {
+			aggregator.flush();
+		}
+		aggregator.flush();
+
+		long flushed = jdbcTemplate.batches.stream().flatMap(List::stream).mapToLong(row -> (Long) row[0]).sum();
+		assertThat(flushed).isEqualTo((long) threads * perThread);
+	}
+
+	// 반영된 증가분은 캐시를 지우지 않고 알고 있는 조회수에 더함
+	@Test
+	void patchesKnownCountOnFlush() {
+		aggregator.remember(aggregator.stamp(), Map.of(1L, 10L));
+		aggregator.increment(1L);
+		aggregator.increment(1L);
+		assertThat(aggregator.viewCount(1L)).isEqualTo(12L);
+
+		aggregator.flush();
+
+		assertThat(aggregator.pendingCount(1L)).isZero();
+		assertThat(aggregator.viewCount(1L)).isEqualTo(12L);
+	}
+
+	// 반영 도중에 읽은 조회수는 기억하지 않음
+	@Test
+	void ignoresCountsReadDuringFlush() {
+		long stamp = aggregator.stamp();
+		aggregator.increment(1L);
+		aggregator.flush();
+
+		aggregator.remember(stamp, Map.of(1L, 10L));
+		aggregator.remember(aggregator.stamp(), Map.of(1L, 11L));
+
+		assertThat(aggregator.viewCount(1L)).isEqualTo(11L);
+	}
+
+	private static class RecordingJdbcTemplate extends JdbcTemplate {
+		private final List<List<Object[]>> batches = new ArrayList<>();
+		private volatile boolean fail;
+
+		@Override
+		public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+			if (fail) {
+				throw new DataAccessResourceFailureException("DB 연결 실패");
+			}
+			batches.add(List.copyOf(batchArgs));
+			return new int[batchArgs.size()];
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.example.board.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+class S3StorageBackendTest {
+
+	private final InMemoryS3 s3 = new InMemoryS3();
+	private final S3StorageBackend backend = new S3StorageBackend(s3, "board", "attachments/");
+
+	// 같은 내용은 한 번만 올림
+	@Test
+	void storesIdenticalContentOnce() throws IOException {
+		StoredBlob first = backend.store(stream("같은 내용"));
+		StoredBlob second = backend.store(stream("같은 내용"));
+
+		assertThat(second.getKey()).isEqualTo(first.getKey());
+		assertThat(s3.puts.get()).isEqualTo(1);
+		assertThat(s3.objects).containsOnlyKeys("attachments/" + ContentHasher.shardedPath(first.getKey()));
+		assertThat(backend.exists(first.getKey())).isTrue();
+	}
+
+	@Test
+	void readsRequestedRange() throws IOException {
+		StoredBlob blob = backend.store(stream("0123456789"));
+
+		try (InputStream in = backend.open(blob.getKey(), 2, 3)) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("234");
+		}
+		try (InputStream in = backend.open(blob.getKey(), 5, 0)) {
+			assertThat(in.readAllBytes()).isEmpty();
+		}
+	}
+
+	@Test
+	void deletesBlob() throws IOException {
+		StoredBlob blob = backend.store(stream("지울 내용"));
+
+		backend.delete(blob.getKey());
+
+		assertThat(backend.exists(blob.getKey())).isFalse();
+		assertThatThrownBy(() -> backend.open(blob.getKey(), 0, 1)).isInstanceOf(IOException.class);
+	}
+
+	private InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 테스트용 S3: bucket 하나를 메모리에 (HEAD 404는 실제 S3처럼 본문 없는 S3Exception)
+	private static class InMemoryS3 implements S3Client {
+		private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+		private final AtomicInteger puts = new AtomicInteger();
+
+		@Override
+		public HeadObjectResponse headObject(HeadObjectRequest request) {
+			byte[] object = objects.get(request.key());
+			if (object == null) {
+				throw (S3Exception) S3Exception.builder().statusCode(404).build();
+			}
+			return HeadObjectResponse.builder().contentLength((long) object.length).build();
+		}
+
+		@Override
+		public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+			try (InputStream in = body.contentStreamProvider().newStream()) {
+				objects.put(request.key(), in.readAllBytes());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			puts.incrementAndGet();
+			return PutObjectResponse.builder().build();
+		}
+
+		@Override
+		public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+			byte[] object = objects.get(request.key());
+			if (object == null) {
+				throw NoSuchKeyException.builder().statusCode(404).build();
+			}
+			// "bytes=first-last"
+			String[] range = request.range().substring("bytes=".length()).split("-");
+			int first = Integer.parseInt(range[0]);
+			int last = Math.min(Integer.parseInt(range[1]), object.length - 1);
+			byte[] slice = Arrays.copyOfRange(object, first, last + 1);
+			return new ResponseInputStream<>(GetObjectResponse.builder().contentLength((long) slice.length).build(),
+					AbortableInputStream.create(new ByteArrayInputStream(slice)));
+		}
+
+		@Override
+		public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+			objects.remove(request.key());
+			return DeleteObjectResponse.builder().build();
+		}
+
+		@Override
+		public String serviceName() {
+			return SERVICE_NAME;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}